@@ -0,0 +1,273 @@
+package DSA;
+
+import DSA.VerticalOrderTraversalOfABinaryTree.TreeNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Binary tree stored as a struct of arrays instead of one TreeNode object per node:
+ *
+ *      index :  0  1  2  3  4
+ *      val   : [1, 2, 3, 4, 6]
+ *      left  : [1, 3,-1,-1,-1]      -1 = no child
+ *      right : [2, 4,-1,-1,-1]
+ *
+ * A TreeNode costs an object header + an int + two references (~24 bytes with compressed oops, 32 without),
+ * and every hop to a child is a pointer chase to wherever the allocator put it. Here a node is 12 bytes in
+ * three arrays, and since both builders number the nodes in BFS order (root = 0, children always after
+ * their parent), level by level traversals are a plain left to right scan over the arrays.
+ */
+public class ArrayBinaryTree {
+
+    public static void main(String[] args) {
+        Integer[] levelOrder = {1, 2, 3, 4, 6, 5, 7};
+        ArrayBinaryTree tree = fromLevelOrder(levelOrder);
+        System.out.println("Vertical: " + tree.verticalTraversal());
+        System.out.println("Level order: " + tree.levelOrder());
+        System.out.println("Preorder: " + Arrays.toString(tree.preorder()));
+        System.out.println("Inorder: " + Arrays.toString(tree.inorder()));
+
+        benchmark(2_000_000, 10);
+    }
+
+    final int[] val;
+    final int[] left;
+    final int[] right;
+    final int size;
+
+    private ArrayBinaryTree(int[] val, int[] left, int[] right, int size) {
+        this.val = val;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // BFS over the object tree, every node gets the next index so the result is in level order
+    public static ArrayBinaryTree fromTreeNode(TreeNode root) {
+        if (root == null) return new ArrayBinaryTree(new int[0], new int[0], new int[0], 0);
+
+        TreeNode[] queue = new TreeNode[16];
+        int[] val = new int[16], left = new int[16], right = new int[16];
+        queue[0] = root;
+        int head = 0, tail = 1;
+        while (head < tail) {
+            if (tail + 2 > queue.length) {
+                int capacity = queue.length * 2;
+                queue = Arrays.copyOf(queue, capacity);
+                val = Arrays.copyOf(val, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+            }
+            TreeNode node = queue[head];
+            val[head] = node.val;
+            left[head] = -1;
+            right[head] = -1;
+            if (node.left != null) {
+                left[head] = tail;
+                queue[tail++] = node.left;
+            }
+            if (node.right != null) {
+                right[head] = tail;
+                queue[tail++] = node.right;
+            }
+            head++;
+        }
+        return new ArrayBinaryTree(Arrays.copyOf(val, tail), Arrays.copyOf(left, tail), Arrays.copyOf(right, tail), tail);
+    }
+
+    /*
+    Level order input as on leetcode: [1, 2, 3, null, 4] -> null means the child is missing,
+    and children are only listed for nodes that exist.
+    Values are consumed two at a time for every existing node in order, so the existing nodes
+    get indexes 0, 1, 2, ... in exactly the BFS order.
+     */
+    public static ArrayBinaryTree fromLevelOrder(Integer[] values) {
+        int nodes = 0;
+        for (Integer v : values) if (v != null) nodes++;
+        int[] val = new int[nodes], left = new int[nodes], right = new int[nodes];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        if (nodes == 0 || values[0] == null) return new ArrayBinaryTree(val, left, right, 0);
+
+        val[0] = values[0];
+        int created = 1, cursor = 1;
+        for (int parent = 0; parent < created && cursor < values.length; parent++) {
+            if (values[cursor] != null) {
+                val[created] = values[cursor];
+                left[parent] = created++;
+            }
+            cursor++;
+            if (cursor < values.length && values[cursor] != null) {
+                val[created] = values[cursor];
+                right[parent] = created++;
+            }
+            cursor++;
+        }
+        return new ArrayBinaryTree(val, left, right, created);
+    }
+
+    // same output as VerticalOrderTraversalOfABinaryTree.verticalTraversal, but no queue is needed:
+    // nodes are in BFS order, so the parent's row and column are always known before the child is visited
+    public List<List<Integer>> verticalTraversal() {
+        if (size == 0) return new ArrayList<>();
+        int[] rows = new int[size], cols = new int[size];
+        int minCol = 0, maxCol = 0;
+        for (int i = 0; i < size; i++) {
+            if (left[i] >= 0) {
+                rows[left[i]] = rows[i] + 1;
+                cols[left[i]] = cols[i] - 1;
+                minCol = Math.min(minCol, cols[i] - 1);
+            }
+            if (right[i] >= 0) {
+                rows[right[i]] = rows[i] + 1;
+                cols[right[i]] = cols[i] + 1;
+                maxCol = Math.max(maxCol, cols[i] + 1);
+            }
+        }
+        return VerticalOrderTraversalOfABinaryTree.groupByColumn(cols, rows, val, size, minCol, maxCol);
+    }
+
+    public List<List<Integer>> levelOrder() {
+        List<List<Integer>> res = new ArrayList<>();
+        if (size == 0) return res;
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (rows[i] == res.size()) res.add(new ArrayList<>());
+            res.get(rows[i]).add(val[i]);
+            if (left[i] >= 0) rows[left[i]] = rows[i] + 1;
+            if (right[i] >= 0) rows[right[i]] = rows[i] + 1;
+        }
+        return res;
+    }
+
+    // iterative DFS with an int stack, push right first so left is processed first
+    public int[] preorder() {
+        int[] res = new int[size];
+        if (size == 0) return res;
+        int[] stack = new int[size];
+        int top = 0, count = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            res[count++] = val[node];
+            if (right[node] >= 0) stack[top++] = right[node];
+            if (left[node] >= 0) stack[top++] = left[node];
+        }
+        return res;
+    }
+
+    // go left as far as possible, then visit and move to the right subtree
+    public int[] inorder() {
+        int[] res = new int[size];
+        int[] stack = new int[size];
+        int top = 0, count = 0;
+        int node = size == 0 ? -1 : 0;
+        while (node >= 0 || top > 0) {
+            while (node >= 0) {
+                stack[top++] = node;
+                node = left[node];
+            }
+            node = stack[--top];
+            res[count++] = val[node];
+            node = right[node];
+        }
+        return res;
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += val[i];
+        return sum;
+    }
+
+    /*
+    BENCHMARK: same random tree as objects and as arrays
+        •	memory per node: used heap before and after building (after a GC), so it is only an estimate
+        •	throughput: nodes per second for a full DFS (preorder sum) and for the vertical traversal
+     */
+    static void benchmark(int nodes, int rounds) {
+        Random random = new Random(42);
+
+        long before = usedHeap();
+        TreeNode root = randomTree(nodes, random);
+        long objectBytes = usedHeap() - before;
+
+        before = usedHeap();
+        ArrayBinaryTree tree = fromTreeNode(root);
+        long arrayBytes = usedHeap() - before;
+
+        System.out.printf("%,d nodes, memory per node: objects %.1f bytes, arrays %.1f bytes%n",
+                nodes, (double) objectBytes / nodes, (double) arrayBytes / nodes);
+
+        long checksum = 0;
+        for (int warmup = 0; warmup < 3; warmup++) {
+            checksum += preorderSum(root) + Arrays.stream(tree.preorder()).asLongStream().sum();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) checksum += preorderSum(root);
+        double objectDfs = nodesPerSecond(nodes, rounds, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) checksum += Arrays.stream(tree.preorder()).asLongStream().sum();
+        double arrayDfs = nodesPerSecond(nodes, rounds, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) checksum += VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative(root).size();
+        double objectVertical = nodesPerSecond(nodes, rounds, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) checksum += tree.verticalTraversal().size();
+        double arrayVertical = nodesPerSecond(nodes, rounds, System.nanoTime() - start);
+
+        System.out.printf("DFS      : objects %,.0f nodes/s, arrays %,.0f nodes/s%n", objectDfs, arrayDfs);
+        System.out.printf("Vertical : objects %,.0f nodes/s, arrays %,.0f nodes/s%n", objectVertical, arrayVertical);
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    // random shape: every new node is attached to a random free child slot of an existing node
+    public static TreeNode randomTree(int nodes, Random random) {
+        TreeNode[] all = new TreeNode[nodes];
+        all[0] = new TreeNode(random.nextInt(1000));
+        for (int i = 1; i < nodes; i++) {
+            all[i] = new TreeNode(random.nextInt(1000));
+            while (true) {
+                TreeNode parent = all[random.nextInt(i)];
+                if (random.nextBoolean()) {
+                    if (parent.left == null) { parent.left = all[i]; break; }
+                } else if (parent.right == null) { parent.right = all[i]; break; }
+            }
+        }
+        return all[0];
+    }
+
+    static long preorderSum(TreeNode root) {
+        long sum = 0;
+        ArrayList<TreeNode> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.remove(stack.size() - 1);
+            sum += node.val;
+            if (node.right != null) stack.add(node.right);
+            if (node.left != null) stack.add(node.left);
+        }
+        return sum;
+    }
+
+    private static double nodesPerSecond(int nodes, int rounds, long nanos) {
+        return (double) nodes * rounds / (nanos / 1e9);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
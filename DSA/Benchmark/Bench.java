@@ -0,0 +1,108 @@
+package DSA.Benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/*
+ * Small, dependency free micro benchmark runner (the same idea as a JMH benchmark in its simplest form):
+ *
+ *  1.	warmup: run the operation for WARMUP time so the JIT compiles the hot paths, results are thrown away
+ *  2.	measurement: run the operation in a loop for MEASURE time and count the operations
+ *  3.	report per operation:
+ *          •	time (ns/op)
+ *          •	bytes allocated by the benchmark thread (the "gc.alloc.rate.norm" of the JMH GC profiler)
+ *          •	number of GC cycles and GC time during the measurement
+ *
+ * Every operation returns its result, which is folded into a volatile field,
+ * so the JIT cannot find out the result is unused and remove the work (what a JMH Blackhole does).
+ *
+ * Allocation is read from the current thread only, so work done by fork-join workers is not counted.
+ *
+ * It runs with plain javac + java. The Maven build has the real thing: dsa-jmh holds JMH versions of the
+ * BenchmarkSuite cases (java -jar dsa-jmh/target/benchmarks.jar after mvn package, with the GC profiler on),
+ * with forks, a real Blackhole and error bars, for numbers worth publishing.
+ */
+public class Bench {
+
+    public static final long DEFAULT_WARMUP_MILLIS = 500;
+    public static final long DEFAULT_MEASURE_MILLIS = 1000;
+
+    private static volatile int sink;
+
+    public static class Result {
+        public final String name;
+        public final double nsPerOp;
+        public final double bytesPerOp;
+        public final long ops;
+        public final long gcCount;
+        public final long gcMillis;
+
+        Result(String name, double nsPerOp, double bytesPerOp, long ops, long gcCount, long gcMillis) {
+            this.name = name;
+            this.nsPerOp = nsPerOp;
+            this.bytesPerOp = bytesPerOp;
+            this.ops = ops;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-60s %14.1f ns/op %14.1f B/op %10d ops %5d gc %6d ms gc",
+                    name, nsPerOp, bytesPerOp, ops, gcCount, gcMillis);
+        }
+    }
+
+    public static Result measure(String name, Supplier<?> operation) {
+        return measure(name, operation, DEFAULT_WARMUP_MILLIS, DEFAULT_MEASURE_MILLIS);
+    }
+
+    public static Result measure(String name, Supplier<?> operation, long warmupMillis, long measureMillis) {
+        long end = System.nanoTime() + warmupMillis * 1_000_000;
+        while (System.nanoTime() < end) consume(operation.get());
+
+        long gcCountBefore = gcCount(), gcMillisBefore = gcMillis();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        end = start + measureMillis * 1_000_000;
+        long ops = 0;
+        long now;
+        do {
+            consume(operation.get());
+            ops++;
+            now = System.nanoTime();
+        } while (now < end);
+        long elapsed = now - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        return new Result(name, (double) elapsed / ops, allocatedBefore < 0 ? Double.NaN : (double) allocated / ops, ops,
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private static void consume(Object result) {
+        sink += result == null ? 0 : System.identityHashCode(result);
+    }
+
+    // -1 when the JVM cannot measure per thread allocation
+    static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean threadBean && threadBean.isThreadAllocatedMemorySupported()) {
+            return threadBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1;
+    }
+
+    static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) count += Math.max(0, gc.getCollectionCount());
+        return count;
+    }
+
+    static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) millis += Math.max(0, gc.getCollectionTime());
+        return millis;
+    }
+}
@@ -0,0 +1,363 @@
+package DSA.Benchmark;
+
+import DSA.ArrayBinaryTree;
+import DSA.BinarySearch.BananaPiles;
+import DSA.BinarySearch.EatingBananasHourly;
+import DSA.BinarySearch.LowerBound;
+import DSA.BinarySearch.MinInRotatedSortedArray;
+import DSA.BinarySearch.RotatedSortedArray;
+import DSA.BinarySearch.SearchInRotatedArray;
+import DSA.BinarySearch.SmallestDivisorLessThanEqualThreshold;
+import DSA.GreedyAlgorithms.AssignCookies;
+import DSA.GreedyAlgorithms.FractionalKnapsackProblem;
+import DSA.GreedyAlgorithms.JobSequencingProblem;
+import DSA.GreedyAlgorithms.JobSequencingWithDurations;
+import DSA.GreedyAlgorithms.ListPipeline;
+import DSA.GreedyAlgorithms.MinNumOfCoins;
+import DSA.GreedyAlgorithms.MinNumOfRailwayPlatforms;
+import DSA.GreedyAlgorithms.NMeetings1room;
+import DSA.GreedyAlgorithms.ZeroOneKnapsack;
+import DSA.PrimitiveCollections.IntResultStore;
+import DSA.Recursion.CombinationSum3;
+import DSA.Recursion.CombinationSumRepeatAllowed;
+import DSA.Recursion.NQueen;
+import DSA.Recursion.NQueenCompletion;
+import DSA.Recursion.PalindromePartioning;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.RatMaze;
+import DSA.Recursion.SearchBudget;
+import DSA.Recursion.SudokuGenerator;
+import DSA.Recursion.SudokuSolver;
+import DSA.VerticalOrderTraversalOfABinaryTree;
+import DSA.VerticalOrderTraversalOfABinaryTree.TreeNode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/*
+ * Parameterized benchmarks for every DSA package, run with Bench (time, allocation and GC per operation).
+ *
+ *   java DSA.Benchmark.BenchmarkSuite [--filter NQueen] [--quick]
+ *                                     [--save results.properties]
+ *                                     [--baseline results.properties] [--tolerance 0.25]
+ *
+ * --save writes ns/op and B/op of every benchmark to a properties file,
+ * --baseline compares against such a file and exits with status 1 if any benchmark got slower or allocates more
+ * than baseline * (1 + tolerance), so a script or CI job can gate regressions on it.
+ *
+ * Inputs are generated from a fixed seed so two runs measure the same work.
+ * The JMH benchmarks in dsa-jmh use the same inputs (classicSudoku, distinctSorted, rotate ...).
+ */
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws IOException {
+        String filter = null;
+        Path save = null, baseline = null;
+        double tolerance = 0.25;
+        long warmup = Bench.DEFAULT_WARMUP_MILLIS, measure = Bench.DEFAULT_MEASURE_MILLIS;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--filter" -> filter = args[++i];
+                case "--save" -> save = Path.of(args[++i]);
+                case "--baseline" -> baseline = Path.of(args[++i]);
+                case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+                case "--quick" -> {
+                    warmup = 100;
+                    measure = 200;
+                }
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        List<Bench.Result> results = new ArrayList<>();
+        for (Case benchmark : cases()) {
+            if (filter != null && !benchmark.name.contains(filter)) continue;
+            Bench.Result result = Bench.measure(benchmark.name, benchmark.operation, warmup, measure);
+            System.out.println(result);
+            results.add(result);
+        }
+
+        if (save != null) save(results, save);
+        if (baseline != null && !compare(results, baseline, tolerance)) System.exit(1);
+    }
+
+    static class Case {
+        final String name;
+        final Supplier<?> operation;
+
+        Case(String name, Supplier<?> operation) {
+            this.name = name;
+            this.operation = operation;
+        }
+    }
+
+    static List<Case> cases() {
+        List<Case> cases = new ArrayList<>();
+        recursion(cases);
+        binarySearch(cases);
+        greedy(cases);
+        trees(cases);
+        return cases;
+    }
+
+    static void recursion(List<Case> cases) {
+        NQueen nQueen = new NQueen();
+        for (int n : new int[]{6, 8, 10}) {
+            cases.add(new Case("NQueen.solveNQueens[n=" + n + "]", () -> nQueen.solveNQueens(n)));
+            cases.add(new Case("NQueen.forEachSolution[n=" + n + "]", () -> NQueen.forEachSolution(n, columns -> { })));
+        }
+        for (int n : new int[]{100, 1000}) {
+            int[] queens = new int[n];
+            Arrays.fill(queens, -1);
+            queens[n / 2] = 0;
+            cases.add(new Case("NQueenCompletion.findCompletion[n=" + n + "]", () -> NQueenCompletion.findCompletion(queens, SearchBudget.unlimited())));
+        }
+
+        SudokuSolver sudoku = new SudokuSolver();
+        char[][] board = classicSudoku();
+        cases.add(new Case("SudokuSolver.solve[classic]", () -> {
+            char[][] copy = new char[9][];
+            for (int i = 0; i < 9; i++) copy[i] = board[i].clone();
+            return sudoku.solve(copy);
+        }));
+        cases.add(new Case("SudokuSolver.countSolutions[classic, limit=2]", () -> SudokuSolver.countSolutions(board, 2)));
+        SudokuGenerator generator = new SudokuGenerator(1);
+        cases.add(new Case("SudokuGenerator.generate", generator::generate));
+
+        cases.add(new Case("CombinationSum3.combinationSum3[k=3, n=15]", () -> CombinationSum3.combinationSum3(3, 15)));
+        cases.add(new Case("CombinationSum3.combinationSum3View[k=3, n=15, materialized]",
+                () -> new ArrayList<>(CombinationSum3.combinationSum3View(3, 15))));
+        cases.add(new Case("CombinationSum3.combinationSum3Backtracking[k=3, n=15]", () -> CombinationSum3.combinationSum3Backtracking(3, 15)));
+        cases.add(new Case("CombinationSum3.combinationSum3Ints[k=3, n=15]", () -> CombinationSum3.combinationSum3Ints(3, 15)));
+        int[] subsetNums = new Random(16).ints(16, 0, 1000).toArray();
+        cases.add(new Case("PowerSet.powerSet[n=16]", () -> PowerSet.powerSet(subsetNums)));
+        cases.add(new Case("PowerSet.powerSetInts[n=16]", () -> PowerSet.powerSetInts(subsetNums)));
+        cases.add(new Case("PowerSet.powerSet[n=16, IntResultStore 1 MB]", () -> {
+            try (IntResultStore store = new IntResultStore(1 << 20, 1 << 16)) {
+                return PowerSet.powerSet(subsetNums, store, SearchBudget.unlimited()).value();
+            }
+        }));
+        int[] primes = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29};
+        cases.add(new Case("CombinationSumRepeatAllowed.combinationSum[primes, target=100]",
+                () -> CombinationSumRepeatAllowed.combinationSum(primes, 100)));
+        cases.add(new Case("CombinationSumRepeatAllowed.combinationSumInts[primes, target=100]",
+                () -> CombinationSumRepeatAllowed.combinationSumInts(primes, 100)));
+
+        for (int n : new int[]{12, 20}) {
+            String repeated = "a".repeat(n);
+            cases.add(new Case("PalindromePartioning.partition[a^" + n + "]", () -> PalindromePartioning.partition(repeated)));
+            cases.add(new Case("PalindromePartioning.forEachPartitionParallel[a^" + n + "]",
+                    () -> PalindromePartioning.forEachPartitionParallel(repeated, cuts -> {})));
+            cases.add(new Case("PalindromePartioning.countPartitions[a^" + n + "]", () -> PalindromePartioning.countPartitions(repeated)));
+        }
+
+        RatMaze ratMaze = new RatMaze();
+        for (int n : new int[]{3, 4, 5}) {
+            int[][] grid = new int[n][n];
+            for (int[] row : grid) Arrays.fill(row, 1);
+            cases.add(new Case("RatMaze.findPath[open " + n + "x" + n + "]", () -> ratMaze.findPath(grid)));
+            cases.add(new Case("RatMaze.countPathsParallel[open " + n + "x" + n + "]", () -> ratMaze.countPathsParallel(grid)));
+        }
+    }
+
+    static void binarySearch(List<Case> cases) {
+        Random random = new Random(42);
+        for (int n : new int[]{1_000, 1_000_000}) {
+            int[] sorted = distinctSorted(n, random);
+            int[] queries = random.ints(1024, sorted[0] + 1, sorted[n - 1]).toArray();
+            int[] rotated = rotate(sorted, n / 3);
+            ArrayList<Integer> rotatedList = new ArrayList<>();
+            for (int v : rotated) rotatedList.add(v);
+            int[] next = new int[1];
+
+            LowerBound lowerBound = new LowerBound();
+            cases.add(new Case("LowerBound.lowerBound[n=" + n + "]",
+                    () -> lowerBound.lowerBound(sorted, queries[next[0]++ & 1023])));
+
+            SearchInRotatedArray search = new SearchInRotatedArray();
+            cases.add(new Case("SearchInRotatedArray.searchInARotatedSortedArrayII[ArrayList, n=" + n + "]",
+                    () -> search.searchInARotatedSortedArrayII(rotatedList, queries[next[0]++ & 1023])));
+
+            RotatedSortedArray rotatedArray = new RotatedSortedArray(rotated);
+            cases.add(new Case("RotatedSortedArray.indexOf[n=" + n + "]",
+                    () -> rotatedArray.indexOf(queries[next[0]++ & 1023])));
+
+            MinInRotatedSortedArray min = new MinInRotatedSortedArray();
+            cases.add(new Case("MinInRotatedSortedArray.findMin[ArrayList, n=" + n + "]", () -> min.findMin(rotatedList)));
+            cases.add(new Case("MinInRotatedSortedArray.findMin[int[], n=" + n + "]", () -> min.findMin(rotated)));
+        }
+
+        for (int n : new int[]{1_000, 100_000}) {
+            int[] piles = random.ints(n, 1, 1_000_000).toArray();
+            SmallestDivisorLessThanEqualThreshold divisor = new SmallestDivisorLessThanEqualThreshold();
+            cases.add(new Case("SmallestDivisorLessThanEqualThreshold.smallestDivisor[n=" + n + "]",
+                    () -> divisor.smallestDivisor(piles, n * 3)));
+            // 1000 thresholds in one call, including the preprocessing
+            int[] thresholds = random.ints(1000, n, n * 50).toArray();
+            cases.add(new Case("SmallestDivisorLessThanEqualThreshold.smallestDivisors[n=" + n + ",q=1000]",
+                    () -> divisor.smallestDivisors(piles, thresholds)));
+            EatingBananasHourly bananas = new EatingBananasHourly();
+            cases.add(new Case("EatingBananasHourly.minimumRateToEatBananas[n=" + n + "]",
+                    () -> bananas.minimumRateToEatBananas(piles, n * 3)));
+            BananaPiles dynamicPiles = new BananaPiles(1_000_000);
+            for (int pile : piles) dynamicPiles.insert(pile);
+            cases.add(new Case("BananaPiles.minimumRate[n=" + n + "]", () -> dynamicPiles.minimumRate(n * 3)));
+        }
+    }
+
+    static void greedy(List<Case> cases) {
+        Random random = new Random(7);
+        for (int n : new int[]{1_000, 100_000}) {
+            int[] students = random.ints(n, 1, 1000).toArray();
+            int[] cookies = random.ints(n, 1, 1000).toArray();
+            cases.add(new Case("AssignCookies.maxNumOfStudentWithCookies[n=" + n + "]",
+                    () -> AssignCookies.maxNumOfStudentWithCookies(students.clone(), cookies.clone())));
+
+            int[] weights = random.ints(n, 1, 100).toArray();
+            int[] values = random.ints(n, 1, 1000).toArray();
+            cases.add(new Case("FractionalKnapsackProblem.fractionalKnapsack[n=" + n + "]",
+                    () -> FractionalKnapsackProblem.fractionalKnapsack(weights, values, n * 10)));
+
+            int[][] jobs = new int[n][];
+            for (int i = 0; i < n; i++) jobs[i] = new int[]{i + 1, 1 + random.nextInt(Math.max(1, n / 10)), random.nextInt(1000)};
+            cases.add(new Case("JobSequencingProblem.jobScheduling[n=" + n + "]", () -> JobSequencingProblem.jobScheduling(jobs)));
+
+            int[] deadlines = random.ints(n, 1, 10 * n).toArray(), durations = random.ints(n, 1, 20).toArray(), profits = random.ints(n, 0, 1000).toArray();
+            cases.add(new Case("JobSequencingWithDurations.schedule[n=" + n + "]",
+                    () -> JobSequencingWithDurations.schedule(deadlines, durations, profits).profit));
+
+            int[] arrival = new int[n], departure = new int[n];
+            for (int i = 0; i < n; i++) {
+                arrival[i] = random.nextInt(2300);
+                departure[i] = arrival[i] + random.nextInt(Math.min(60, 2359 - arrival[i]) + 1);
+            }
+            MinNumOfRailwayPlatforms platforms = new MinNumOfRailwayPlatforms();
+            cases.add(new Case("MinNumOfRailwayPlatforms.findPlatform[n=" + n + "]", () -> platforms.findPlatform(arrival, departure)));
+            cases.add(new Case("MinNumOfRailwayPlatforms.findPlatformBySorting[n=" + n + "]", () -> platforms.findPlatformBySorting(arrival, departure)));
+            cases.add(new Case("MinNumOfRailwayPlatforms.findPlatformByCounting[parallel, n=" + n + "]",
+                    () -> platforms.findPlatformByCounting(arrival, departure, true)));
+
+            int[] start = new int[n], end = new int[n];
+            for (int i = 0; i < n; i++) {
+                start[i] = random.nextInt(1_000_000);
+                end[i] = start[i] + 1 + random.nextInt(1000);
+            }
+            NMeetings1room meetings = new NMeetings1room();
+            cases.add(new Case("NMeetings1room.maxMeetings[n=" + n + "]", () -> meetings.maxMeetings(start, end)));
+
+            List<Integer> numbers = new ArrayList<>();
+            for (int i = 0; i < n; i++) numbers.add(random.nextInt());
+            cases.add(new Case("ListPipeline.filter.map.toList[n=" + n + "]",
+                    () -> ListPipeline.of(numbers).filter(x -> (x & 1) == 0).map(x -> x >> 1).toList()));
+            cases.add(new Case("Stream.filter.map.toList[n=" + n + "]",
+                    () -> numbers.stream().filter(x -> (x & 1) == 0).map(x -> x >> 1).toList()));
+        }
+
+        for (int value : new int[]{52_521, 999_999_999}) {
+            cases.add(new Case("MinNumOfCoins.findMinNumOfCoins[value=" + value + "]", () -> MinNumOfCoins.findMinNumOfCoins(value)));
+        }
+
+        // 0/1 knapsack is O(n * C) by DP, so it gets its own (smaller) sizes
+        int[] itemWeights = random.ints(200, 1, 10_000).toArray(), itemValues = random.ints(200, 1, 10_000).toArray();
+        cases.add(new Case("ZeroOneKnapsack.maxValueByDp[n=200,C=400000]", () -> ZeroOneKnapsack.maxValueByDp(itemWeights, itemValues, 400_000)));
+        cases.add(new Case("ZeroOneKnapsack.maxFill[n=200,C=400000]", () -> ZeroOneKnapsack.maxFill(itemWeights, 400_000)));
+        cases.add(new Case("ZeroOneKnapsack.maxValueByBranchAndBound[n=200,C=400000]",
+                () -> ZeroOneKnapsack.maxValueByBranchAndBound(itemWeights, itemValues, 400_000, SearchBudget.unlimited()).value()));
+    }
+
+    static void trees(List<Case> cases) {
+        for (int n : new int[]{10_000, 1_000_000}) {
+            TreeNode root = ArrayBinaryTree.randomTree(n, new Random(n));
+            ArrayBinaryTree arrayTree = ArrayBinaryTree.fromTreeNode(root);
+            // a new object per call, the recursive version keeps its state in instance fields
+            cases.add(new Case("VerticalOrderTraversalOfABinaryTree.verticalTraversal[n=" + n + "]",
+                    () -> new VerticalOrderTraversalOfABinaryTree().verticalTraversal(root)));
+            cases.add(new Case("VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative[n=" + n + "]",
+                    () -> VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative(root)));
+            cases.add(new Case("VerticalOrderTraversalOfABinaryTree.verticalTraversalParallel[n=" + n + "]",
+                    () -> VerticalOrderTraversalOfABinaryTree.verticalTraversalParallel(root)));
+            cases.add(new Case("VerticalOrderTraversalOfABinaryTree.verticalTraversalInts[n=" + n + "]",
+                    () -> VerticalOrderTraversalOfABinaryTree.verticalTraversalInts(root)));
+            cases.add(new Case("ArrayBinaryTree.verticalTraversal[n=" + n + "]", arrayTree::verticalTraversal));
+            cases.add(new Case("ArrayBinaryTree.preorder[n=" + n + "]", arrayTree::preorder));
+        }
+    }
+
+    static char[][] classicSudoku() {
+        String[] rows = {
+                "53..7....", "6..195...", ".98....6.",
+                "8...6...3", "4..8.3..1", "7...2...6",
+                ".6....28.", "...419..5", "....8..79"
+        };
+        char[][] board = new char[9][];
+        for (int i = 0; i < 9; i++) board[i] = rows[i].toCharArray();
+        return board;
+    }
+
+    static int[] distinctSorted(int n, Random random) {
+        int[] res = new int[n];
+        int value = random.nextInt(10);
+        for (int i = 0; i < n; i++) {
+            res[i] = value;
+            value += 1 + random.nextInt(10);
+        }
+        return res;
+    }
+
+    static int[] rotate(int[] sorted, int by) {
+        int n = sorted.length;
+        int[] res = new int[n];
+        for (int i = 0; i < n; i++) res[i] = sorted[(i + by) % n];
+        return res;
+    }
+
+    static void save(List<Bench.Result> results, Path file) throws IOException {
+        Properties properties = new Properties();
+        for (Bench.Result result : results) {
+            properties.setProperty(result.name + ".ns", String.valueOf(result.nsPerOp));
+            properties.setProperty(result.name + ".bytes", String.valueOf(result.bytesPerOp));
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "DSA benchmark results, ns/op and B/op");
+        }
+    }
+
+    // true if nothing regressed, benchmarks missing from the baseline are only reported
+    static boolean compare(List<Bench.Result> results, Path file, double tolerance) throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            baseline.load(reader);
+        }
+        boolean ok = true;
+        for (Bench.Result result : results) {
+            String ns = baseline.getProperty(result.name + ".ns");
+            String bytes = baseline.getProperty(result.name + ".bytes");
+            if (ns == null) {
+                System.out.println("NEW        " + result.name);
+                continue;
+            }
+            ok &= check(result.name + " time", result.nsPerOp, Double.parseDouble(ns), tolerance, 0);
+            // allocation can legitimately be ~0, a few bytes of noise must not fail the gate
+            if (bytes != null) ok &= check(result.name + " allocation", result.bytesPerOp, Double.parseDouble(bytes), tolerance, 64);
+        }
+        return ok;
+    }
+
+    // a regression is above the relative tolerance and also more than minIncrease above the baseline
+    private static boolean check(String name, double current, double baseline, double tolerance, double minIncrease) {
+        if (Double.isNaN(current) || Double.isNaN(baseline)) return true;
+        boolean regressed = current > baseline * (1 + tolerance) && current - baseline > minIncrease;
+        System.out.printf("%-10s %s: %.1f -> %.1f (%+.1f%%)%n", regressed ? "REGRESSION" : "OK", name,
+                baseline, current, baseline == 0 ? 0 : (current - baseline) * 100 / baseline);
+        return !regressed;
+    }
+}
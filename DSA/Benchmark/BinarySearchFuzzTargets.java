@@ -0,0 +1,212 @@
+package DSA.Benchmark;
+
+import DSA.Benchmark.DifferentialFuzzer.Target;
+import DSA.BinarySearch.BananaPiles;
+import DSA.BinarySearch.EatingBananasHourly;
+import DSA.BinarySearch.MappedSortedArray;
+import DSA.BinarySearch.RotatedSortedArray;
+import DSA.BinarySearch.SmallestDivisorLessThanEqualThreshold;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static DSA.Benchmark.DifferentialFuzzer.compare;
+import static DSA.Benchmark.DifferentialFuzzer.mismatch;
+import static DSA.Benchmark.DifferentialFuzzer.randomInts;
+
+// DifferentialFuzzer targets for DSA.BinarySearch, checked against linear scans
+class BinarySearchFuzzTargets {
+
+    static void addTo(List<Target> targets) {
+        // random inserts / removes / updates, after each one hours() and minimumRate() must match a plain rescan
+        targets.add(new Target("BananaPiles", 60, (random, n) -> {
+            int maxPile = random.nextBoolean() ? 50 : 1 << 16;
+            BananaPiles piles = new BananaPiles(maxPile);
+            List<Integer> current = new ArrayList<>();
+            StringBuilder operations = new StringBuilder("maxPile=" + maxPile);
+            for (int step = 0; step < 3 * n; step++) {
+                int pile = 1 + random.nextInt(maxPile);
+                int choice = current.isEmpty() ? 0 : random.nextInt(4);
+                if (choice <= 1) {
+                    piles.insert(pile);
+                    current.add(pile);
+                    operations.append(" +").append(pile);
+                } else {
+                    int index = random.nextInt(current.size());
+                    int old = current.get(index);
+                    if (choice == 2) {
+                        piles.remove(old);
+                        current.remove(index);
+                        operations.append(" -").append(old);
+                    } else {
+                        piles.update(old, pile);
+                        current.set(index, pile);
+                        operations.append(" ").append(old).append("->").append(pile);
+                    }
+                }
+                if (current.isEmpty()) continue;
+                int[] sizes = current.stream().mapToInt(Integer::intValue).toArray();
+                int rate = 1 + random.nextInt(maxPile);
+                long hours = 0;
+                for (int size : sizes) hours += (size + rate - 1) / rate;
+                String failure = compare(operations + " hours(" + rate + ")", hours, piles.hours(rate));
+                if (failure != null) return failure;
+                int h = sizes.length + random.nextInt(sizes.length * 20);
+                failure = compare(operations + " minimumRate(" + h + ")",
+                        new EatingBananasHourly().minimumRateToEatBananas(sizes, h), piles.minimumRate(h));
+                if (failure != null) return failure;
+            }
+            return null;
+        }));
+
+        // every threshold from infeasible (< n) to above the sum, checked against a linear scan over the divisors
+        targets.add(new Target("SmallestDivisorLessThanEqualThreshold", 40, (random, n) -> {
+            int bound = random.nextBoolean() ? 30 : 1_000_000;
+            int[] nums = new int[n];
+            for (int i = 0; i < n; i++) nums[i] = 1 + random.nextInt(bound);
+            long total = 0;
+            int max = 0;
+            for (int num : nums) {
+                total += num;
+                max = Math.max(max, num);
+            }
+            int[] thresholds = new int[1 + random.nextInt(20)];
+            for (int i = 0; i < thresholds.length; i++) thresholds[i] = random.nextInt((int) Math.min(Integer.MAX_VALUE, total + 2));
+            String input = "nums=" + Arrays.toString(nums) + " thresholds=" + Arrays.toString(thresholds);
+            int[] expected = new int[thresholds.length];
+            for (int i = 0; i < thresholds.length; i++) {
+                expected[i] = -1;
+                if (thresholds[i] < n) continue;
+                // f(d) is non-increasing and f(max) = n, so a scan from 1 always stops
+                for (int d = 1; ; d = d < 64 ? d + 1 : Math.max(d + 1, d + (d >> 4))) {
+                    long sum = 0;
+                    for (int num : nums) sum += (num + d - 1) / d;
+                    if (sum <= thresholds[i]) {
+                        // refine the coarse step back to the first divisor that works
+                        int first = d;
+                        while (first > 1) {
+                            long previous = 0;
+                            for (int num : nums) previous += (num + first - 2) / (first - 1);
+                            if (previous > thresholds[i]) break;
+                            first--;
+                        }
+                        expected[i] = first;
+                        break;
+                    }
+                }
+            }
+            SmallestDivisorLessThanEqualThreshold divisor = new SmallestDivisorLessThanEqualThreshold();
+            int[] single = new int[thresholds.length];
+            for (int i = 0; i < thresholds.length; i++) single[i] = divisor.smallestDivisor(nums, thresholds[i]);
+            String failure = compare(input, Arrays.toString(expected), Arrays.toString(single));
+            if (failure == null) {
+                failure = compare(input + " (batch)", Arrays.toString(expected), Arrays.toString(divisor.smallestDivisors(nums, thresholds)));
+            }
+            if (failure == null) {
+                // 1 expected query keeps large maxima out of the table, so the sorted mode is checked too
+                int[] sorted = new SmallestDivisorLessThanEqualThreshold.DivisorSums(nums, 1).smallestDivisors(thresholds);
+                failure = compare(input + " (sorted mode)", Arrays.toString(expected), Arrays.toString(sorted));
+            }
+            return failure;
+        }));
+        // sorted with duplicates, rotated anywhere (also inside a run of equal values), read through an offset buffer
+        targets.add(new Target("RotatedSortedArray", 60, (random, n) -> {
+            int[] nums = rotatedWithDuplicates(random, n);
+            int offset = random.nextInt(3);
+            int[] padded = new int[offset + n + 1];
+            System.arraycopy(nums, 0, padded, offset, n);
+            RotatedSortedArray array = new RotatedSortedArray(IntBuffer.wrap(padded, offset, n));
+            String input = Arrays.toString(nums);
+            int pivot = rotationPoint(nums);
+            if (array.size() != n || array.pivot() != pivot) return mismatch(input + " size/pivot", n + "/" + pivot, array.size() + "/" + array.pivot());
+            if (n > 0 && array.min() != nums[pivot]) return mismatch(input + " min", nums[pivot], array.min());
+            int[] probes = new int[2 * n + 2];
+            for (int i = 0; i < probes.length; i++) probes[i] = i < n ? nums[i] : random.nextInt(3 * n + 3) - 1;
+            int[] expected = new int[probes.length];
+            for (int i = 0; i < probes.length; i++) expected[i] = firstInHalf(nums, pivot, probes[i]);
+            String failure = compare(input + " indexOfAll " + Arrays.toString(probes), Arrays.toString(expected), Arrays.toString(array.indexOfAll(probes)));
+            if (failure == null) {
+                boolean[] contains = new boolean[probes.length];
+                for (int i = 0; i < probes.length; i++) contains[i] = expected[i] >= 0;
+                failure = compare(input + " containsAll", Arrays.toString(contains), Arrays.toString(array.containsAll(probes)));
+            }
+            return failure;
+        }));
+
+        // the same arrays written to a file as little-endian ints and longs, searched over the mapping
+        targets.add(new Target("MappedSortedArray", 60, (random, n) -> {
+            int[] nums = rotatedWithDuplicates(random, n);
+            String input = Arrays.toString(nums);
+            int pivot = rotationPoint(nums);
+            for (MappedSortedArray.ElementType type : MappedSortedArray.ElementType.values()) {
+                boolean ints = type == MappedSortedArray.ElementType.INT;
+                ByteBuffer bytes = ByteBuffer.allocate(n * (ints ? 4 : 8)).order(ByteOrder.LITTLE_ENDIAN);
+                // longs far outside the int range, so a value truncated to 4 bytes would be caught
+                for (int num : nums) {
+                    if (ints) bytes.putInt(num);
+                    else bytes.putLong(num * (1L << 33));
+                }
+                Path file = null;
+                try {
+                    file = Files.createTempFile("fuzz-mapped", ".bin");
+                    Files.write(file, bytes.array());
+                    MappedSortedArray array = MappedSortedArray.open(file, type);
+                    String name = input + " " + type;
+                    if (array.size() != n || array.pivot() != pivot) return mismatch(name + " size/pivot", n + "/" + pivot, array.size() + "/" + array.pivot());
+                    for (int probe = 0; probe < 2 * n + 2; probe++) {
+                        int target = probe < n ? nums[probe] : random.nextInt(3 * n + 3) - 1;
+                        long key = ints ? target : target * (1L << 33);
+                        long index = array.searchRotated(key);
+                        if (index != firstInHalf(nums, pivot, target)) return mismatch(name + " searchRotated(" + target + ")", firstInHalf(nums, pivot, target), index);
+                    }
+                    if (pivot == 0) {
+                        // not rotated: lowerBound against a linear scan
+                        int target = random.nextInt(3 * n + 3) - 1;
+                        int expected = 0;
+                        while (expected < n && nums[expected] < target) expected++;
+                        long actual = array.lowerBound(ints ? target : target * (1L << 33));
+                        if (actual != expected) return mismatch(name + " lowerBound(" + target + ")", expected, actual);
+                    }
+                } catch (IOException e) {
+                    return "threw " + e;
+                } finally {
+                    if (file != null) file.toFile().delete();
+                }
+            }
+            return null;
+        }));
+    }
+
+    // ---------- references ----------
+
+    // sorted values from a small range (so runs of duplicates are common), rotated by a random amount
+    static int[] rotatedWithDuplicates(Random random, int n) {
+        int[] sorted = randomInts(random, n, Math.max(1, random.nextBoolean() ? n / 2 + 1 : 3 * n));
+        Arrays.sort(sorted);
+        int by = n == 0 ? 0 : random.nextInt(n);
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) nums[i] = sorted[(i + by) % n];
+        return nums;
+    }
+
+    // the index where the sorted order restarts (the only descent), 0 if there is none
+    static int rotationPoint(int[] nums) {
+        for (int i = 1; i < nums.length; i++) if (nums[i - 1] > nums[i]) return i;
+        return 0;
+    }
+
+    // first index of target in the sorted half it belongs to: [0, pivot) if target >= nums[0], else [pivot, n)
+    static int firstInHalf(int[] nums, int pivot, int target) {
+        boolean left = pivot > 0 && target >= nums[0];
+        for (int i = left ? 0 : pivot; i < (left ? pivot : nums.length); i++) if (nums[i] == target) return i;
+        return -1;
+    }
+}
@@ -0,0 +1,202 @@
+package DSA.Benchmark;
+
+import DSA.GreedyAlgorithms.AssignCookies;
+import DSA.GreedyAlgorithms.FractionalKnapsackProblem;
+import DSA.GreedyAlgorithms.JobSequencingProblem;
+import DSA.GreedyAlgorithms.JobSequencingWithDurations;
+import DSA.GreedyAlgorithms.MinNumOfRailwayPlatforms;
+import DSA.GreedyAlgorithms.NMeetings1room;
+import DSA.Recursion.PalindromePartioning;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.SubsequenceSumIsK;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+
+/*
+ * Empirical complexity check: every solver is timed with Bench at growing input sizes and a power law
+ * time = c * size^k is fitted by least squares on (log size, log ns/op). The same is done for bytes allocated per op.
+ *
+ *   java DSA.Benchmark.ComplexityCheck [--filter Job] [--quick]
+ *
+ * The exponent k must stay under the case's limit, otherwise the exit status is 1:
+ *  •	O(n log n) greedy solvers: size = n, limit 1.35 (log n adds ~0.1 to k over these sizes, the rest is noise room).
+ *      An accidental O(n²) (a list remove in a loop, a linear scan per element) gives k close to 2.
+ *  •	exponential recursion: size = the work the output forces (n * 2^n for PowerSet ...),
+ *      so k must stay close to 1. A solver that redoes work per node grows faster than its output.
+ *
+ * Absolute times are machine dependent, exponents are not, which is what makes this usable as a build gate.
+ */
+public class ComplexityCheck {
+
+    public static void main(String[] args) {
+        String filter = null;
+        long warmup = 200, measure = 400;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--filter" -> filter = args[++i];
+                case "--quick" -> {
+                    warmup = 50;
+                    measure = 150;
+                }
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        boolean ok = true;
+        for (Scaling scaling : cases()) {
+            if (filter != null && !scaling.name.contains(filter)) continue;
+            ok &= scaling.run(warmup, measure);
+        }
+        if (!ok) System.exit(1);
+    }
+
+    static class Scaling {
+        final String name;
+        final int[] params;
+        // model size of a parameter, e.g. n -> n * 2^n
+        final IntToDoubleFunction size;
+        final IntFunction<Supplier<?>> operation;
+        final double maxExponent;
+
+        Scaling(String name, int[] params, IntToDoubleFunction size, IntFunction<Supplier<?>> operation, double maxExponent) {
+            this.name = name;
+            this.params = params;
+            this.size = size;
+            this.operation = operation;
+            this.maxExponent = maxExponent;
+        }
+
+        boolean run(long warmup, long measure) {
+            double[] sizes = new double[params.length], nanos = new double[params.length], bytes = new double[params.length];
+            for (int i = 0; i < params.length; i++) {
+                Bench.Result result = Bench.measure(name + "[" + params[i] + "]", operation.apply(params[i]), warmup, measure);
+                sizes[i] = size.applyAsDouble(params[i]);
+                nanos[i] = result.nsPerOp;
+                bytes[i] = result.bytesPerOp;
+            }
+            double timeExponent = exponent(sizes, nanos);
+            // allocation of a few bytes per op (or none) has no meaningful slope
+            boolean allocates = Arrays.stream(bytes).allMatch(b -> b >= 64);
+            double allocationExponent = allocates ? exponent(sizes, bytes) : Double.NaN;
+            boolean ok = timeExponent <= maxExponent && !(allocationExponent > maxExponent);
+
+            System.out.printf(Locale.ROOT, "%-5s %-55s time ~ size^%.2f  alloc ~ size^%.2f  (limit %.2f)%n",
+                    ok ? "ok" : "FAIL", name, timeExponent, allocationExponent, maxExponent);
+            for (int i = 0; i < params.length; i++) {
+                System.out.printf(Locale.ROOT, "        %-10d %14.1f ns/op %14.1f B/op%n", params[i], nanos[i], bytes[i]);
+            }
+            return ok;
+        }
+    }
+
+    // slope of the least squares line through (log x, log y)
+    static double exponent(double[] x, double[] y) {
+        int n = x.length;
+        double meanX = 0, meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += Math.log(x[i]) / n;
+            meanY += Math.log(y[i]) / n;
+        }
+        double covariance = 0, variance = 0;
+        for (int i = 0; i < n; i++) {
+            double dx = Math.log(x[i]) - meanX;
+            covariance += dx * (Math.log(y[i]) - meanY);
+            variance += dx * dx;
+        }
+        return covariance / variance;
+    }
+
+    static List<Scaling> cases() {
+        List<Scaling> cases = new ArrayList<>();
+        greedy(cases);
+        recursion(cases);
+        return cases;
+    }
+
+    static final double N_LOG_N = 1.35;
+    static final double LINEAR_IN_OUTPUT = 1.3;
+
+    static void greedy(List<Scaling> cases) {
+        int[] sizes = {1 << 12, 1 << 14, 1 << 16, 1 << 18};
+
+        cases.add(new Scaling("MinNumOfRailwayPlatforms.findPlatform", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[] arrival = new int[n], departure = new int[n];
+            for (int i = 0; i < n; i++) {
+                arrival[i] = random.nextInt(2400);
+                departure[i] = arrival[i] + random.nextInt(120);
+            }
+            MinNumOfRailwayPlatforms platforms = new MinNumOfRailwayPlatforms();
+            return () -> platforms.findPlatform(arrival, departure);
+        }, N_LOG_N));
+
+        cases.add(new Scaling("JobSequencingProblem.jobScheduling", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[][] jobs = new int[n][];
+            for (int i = 0; i < n; i++) jobs[i] = new int[]{i + 1, 1 + random.nextInt(n), 1 + random.nextInt(1000)};
+            return () -> JobSequencingProblem.jobScheduling(jobs);
+        }, N_LOG_N));
+
+        // the horizon grows with n, so a per-slot walk back from the deadline would show up as k close to 2
+        cases.add(new Scaling("JobSequencingWithDurations.schedule", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[] deadlines = random.ints(n, 1, 10 * n).toArray(), durations = random.ints(n, 1, 20).toArray();
+            int[] profits = random.ints(n, 0, 1000).toArray();
+            return () -> JobSequencingWithDurations.schedule(deadlines, durations, profits).profit;
+        }, N_LOG_N));
+
+        cases.add(new Scaling("FractionalKnapsackProblem.fractionalKnapsack", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[] weights = new int[n], values = new int[n];
+            for (int i = 0; i < n; i++) {
+                weights[i] = 1 + random.nextInt(100);
+                values[i] = random.nextInt(1000);
+            }
+            return () -> FractionalKnapsackProblem.fractionalKnapsack(weights, values, n * 25);
+        }, N_LOG_N));
+
+        cases.add(new Scaling("AssignCookies.maxNumOfStudentWithCookies", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[] students = random.ints(n, 1, 1000).toArray(), cookies = random.ints(n, 1, 1000).toArray();
+            return () -> AssignCookies.maxNumOfStudentWithCookies(students.clone(), cookies.clone());
+        }, N_LOG_N));
+
+        cases.add(new Scaling("NMeetings1room.maxMeetings", sizes, n -> n, n -> {
+            Random random = new Random(n);
+            int[] start = new int[n], end = new int[n];
+            for (int i = 0; i < n; i++) {
+                start[i] = random.nextInt(1_000_000);
+                end[i] = start[i] + random.nextInt(1000);
+            }
+            NMeetings1room meetings = new NMeetings1room();
+            return () -> meetings.maxMeetings(start, end);
+        }, N_LOG_N));
+    }
+
+    static void recursion(List<Scaling> cases) {
+        cases.add(new Scaling("PowerSet.powerSet", new int[]{10, 12, 14, 16}, n -> n * Math.pow(2, n), n -> {
+            int[] nums = new Random(n).ints(n, 0, 100).toArray();
+            return () -> PowerSet.powerSet(nums);
+        }, LINEAR_IN_OUTPUT));
+
+        // no subsequence of even numbers sums to an odd target, so all 2^n subsequences are visited
+        cases.add(new Scaling("SubsequenceSumIsK.checkSubsequenceSum", new int[]{12, 14, 16, 18}, n -> Math.pow(2, n), n -> {
+            int[] nums = new int[n];
+            Arrays.fill(nums, 2);
+            return () -> SubsequenceSumIsK.checkSubsequenceSum(nums, 2 * n + 1);
+        }, LINEAR_IN_OUTPUT));
+
+        // every split of "aaa...a" is a palindrome partition: 2^(n-1) partitions with n characters each
+        cases.add(new Scaling("PalindromePartioning.partition", new int[]{8, 10, 12, 14}, n -> n * Math.pow(2, n - 1), n -> {
+            String s = "a".repeat(n);
+            return () -> PalindromePartioning.partition(s);
+        }, LINEAR_IN_OUTPUT));
+    }
+}
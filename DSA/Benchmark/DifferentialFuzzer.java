@@ -0,0 +1,130 @@
+package DSA.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/*
+ * Differential fuzzing: random inputs of growing size are fed to the real solver AND to a slow but obviously
+ * correct reference (brute force over all subsets / permutations / time points, a DP, or the "less optimal"
+ * variant kept in the class), and the two answers must agree.
+ *
+ *   java DSA.Benchmark.DifferentialFuzzer [--seed 42] [--rounds 300] [--filter Job]
+ *
+ * Input size grows with the round (round / 20 + 1, capped per target) so small cases, which shrink a failure
+ * to something readable, come first.
+ * A failure prints the target, the seed / round to replay it, the input and both answers, and the exit status is 1.
+ *
+ * The targets live next to this class, one file per package they check, each adding its targets in addTo():
+ *  •	GreedyFuzzTargets, RecursionFuzzTargets, PrimitiveCollectionsFuzzTargets, BinarySearchFuzzTargets
+ *  •	TreeFuzzTargets for the tree classes in DSA itself
+ * The helpers below (random inputs, compare / mismatch) are shared by all of them.
+ *
+ * See ComplexityCheck for the performance half (empirical complexity of the same solvers).
+ */
+public class DifferentialFuzzer {
+
+    public static void main(String[] args) {
+        long seed = 42;
+        int rounds = 300;
+        String filter = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--rounds" -> rounds = Integer.parseInt(args[++i]);
+                case "--filter" -> filter = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (!run(seed, rounds, filter)) System.exit(1);
+    }
+
+    // returns a description of the mismatch, or null when the solver agrees with the reference
+    interface Check {
+        String run(Random random, int size);
+    }
+
+    static class Target {
+        final String name;
+        final int maxSize;
+        final Check check;
+
+        Target(String name, int maxSize, Check check) {
+            this.name = name;
+            this.maxSize = maxSize;
+            this.check = check;
+        }
+    }
+
+    static boolean run(long seed, int rounds, String filter) {
+        boolean ok = true;
+        for (Target target : targets()) {
+            if (filter != null && !target.name.contains(filter)) continue;
+            String failure = null;
+            int round = 0;
+            for (; round < rounds && failure == null; round++) {
+                Random random = new Random(seed * 1_000_003 + round * 31L + target.name.hashCode());
+                int size = Math.min(target.maxSize, round / 20 + 1);
+                try {
+                    failure = target.check.run(random, size);
+                } catch (RuntimeException e) {
+                    failure = "threw " + e;
+                }
+            }
+            if (failure == null) {
+                System.out.printf("ok    %-45s %d rounds%n", target.name, rounds);
+            } else {
+                System.out.printf("FAIL  %-45s seed %d round %d: %s%n", target.name, seed, round - 1, failure);
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    static List<Target> targets() {
+        List<Target> targets = new ArrayList<>();
+        GreedyFuzzTargets.addTo(targets);
+        RecursionFuzzTargets.addTo(targets);
+        PrimitiveCollectionsFuzzTargets.addTo(targets);
+        BinarySearchFuzzTargets.addTo(targets);
+        TreeFuzzTargets.addTo(targets);
+        return targets;
+    }
+
+    // ---------- helpers shared by the targets ----------
+
+    static int[] randomInts(Random random, int n, int bound) {
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) nums[i] = random.nextInt(bound);
+        return nums;
+    }
+
+    static int[] distinctInts(Random random, int n, int bound) {
+        return random.ints(1, bound + 1).distinct().limit(n).toArray();
+    }
+
+    static String compare(String input, Object expected, Object actual) {
+        return expected.equals(actual) ? null : mismatch(input, expected, actual);
+    }
+
+    // same lists in any order, each list compared as a sorted multiset of its elements
+    static <T extends Comparable<T>> String compareMultiset(String input, List<List<T>> expected, List<List<T>> actual) {
+        Function<List<List<T>>, List<String>> canonical = lists -> {
+            List<String> res = new ArrayList<>();
+            for (List<T> list : lists) {
+                List<T> sorted = new ArrayList<>(list);
+                sorted.sort(null);
+                res.add(sorted.toString());
+            }
+            res.sort(null);
+            return res;
+        };
+        List<String> want = canonical.apply(expected), got = canonical.apply(actual);
+        return want.equals(got) ? null : mismatch(input, want, got);
+    }
+
+    static String mismatch(String input, Object expected, Object actual) {
+        return "input " + input + ": expected " + expected + " but got " + actual;
+    }
+}
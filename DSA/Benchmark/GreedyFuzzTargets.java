@@ -0,0 +1,293 @@
+package DSA.Benchmark;
+
+import DSA.Benchmark.DifferentialFuzzer.Target;
+import DSA.GreedyAlgorithms.AssignCookies;
+import DSA.GreedyAlgorithms.FractionalKnapsackProblem;
+import DSA.GreedyAlgorithms.JobSequencingProblem;
+import DSA.GreedyAlgorithms.JobSequencingWithDurations;
+import DSA.GreedyAlgorithms.ListPipeline;
+import DSA.GreedyAlgorithms.MinNumOfCoins;
+import DSA.GreedyAlgorithms.MinNumOfRailwayPlatforms;
+import DSA.GreedyAlgorithms.NMeetings1room;
+import DSA.GreedyAlgorithms.ZeroOneKnapsack;
+import DSA.Recursion.SearchBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static DSA.Benchmark.DifferentialFuzzer.compare;
+import static DSA.Benchmark.DifferentialFuzzer.mismatch;
+
+// DifferentialFuzzer targets for DSA.GreedyAlgorithms, checked against brute force, exact arithmetic and streams
+class GreedyFuzzTargets {
+
+    static void addTo(List<Target> targets) {
+        MinNumOfRailwayPlatforms platforms = new MinNumOfRailwayPlatforms();
+        targets.add(new Target("MinNumOfRailwayPlatforms.findPlatform", 60, (random, n) -> {
+            int[] arrival = new int[n], departure = new int[n];
+            for (int i = 0; i < n; i++) {
+                arrival[i] = random.nextInt(100);
+                departure[i] = arrival[i] + random.nextInt(30);
+            }
+            int expected = 0;
+            // a platform is busy from arrival to departure, both inclusive: the peak is at some arrival time
+            for (int t : arrival) {
+                int busy = 0;
+                for (int j = 0; j < n; j++) if (arrival[j] <= t && t <= departure[j]) busy++;
+                expected = Math.max(expected, busy);
+            }
+            String input = "arrival=" + Arrays.toString(arrival) + " departure=" + Arrays.toString(departure);
+            String failure = compare(input + " (sorting)", expected, platforms.findPlatformBySorting(arrival, departure));
+            if (failure == null) failure = compare(input + " (counting)", expected, platforms.findPlatformByCounting(arrival, departure, false));
+            if (failure == null) failure = compare(input, expected, platforms.findPlatform(arrival, departure));
+            return failure;
+        }));
+
+        targets.add(new Target("JobSequencingProblem.jobScheduling", 12, (random, n) -> {
+            int[][] jobs = new int[n][];
+            for (int i = 0; i < n; i++) jobs[i] = new int[]{i + 1, random.nextInt(n + 1), 1 + random.nextInt(100)};
+            long expected = 0;
+            for (int mask = 0; mask < 1 << n; mask++) {
+                if (feasibleJobs(jobs, mask)) {
+                    long profit = 0;
+                    for (int i = 0; i < n; i++) if ((mask >> i & 1) != 0) profit += jobs[i][2];
+                    expected = Math.max(expected, profit);
+                }
+            }
+            String input = Arrays.deepToString(jobs);
+            int actual = JobSequencingProblem.jobScheduling(jobs);
+            return compare(input, expected, (long) actual);
+        }));
+
+        // unit durations must reach the exact optimum, other durations the same result as a slot by slot simulation
+        targets.add(new Target("JobSequencingWithDurations.schedule", 200, (random, n) -> {
+            int horizon = 1 + random.nextInt(3 * n + 1);
+            boolean unit = random.nextInt(4) == 0 && n <= 12;
+            int[] deadlines = new int[n], durations = new int[n], profits = new int[n];
+            for (int i = 0; i < n; i++) {
+                deadlines[i] = random.nextInt(horizon + 1);
+                durations[i] = unit ? 1 : 1 + random.nextInt(1 + random.nextInt(8));
+                profits[i] = random.nextInt(100);
+            }
+            String input = "deadlines=" + Arrays.toString(deadlines) + " durations=" + Arrays.toString(durations) + " profits=" + Arrays.toString(profits);
+            JobSequencingWithDurations.Schedule schedule = JobSequencingWithDurations.schedule(deadlines, durations, profits);
+            if (unit) {
+                int[][] jobs = new int[n][];
+                for (int i = 0; i < n; i++) jobs[i] = new int[]{i + 1, deadlines[i], profits[i]};
+                return compare(input, (long) JobSequencingProblem.jobScheduling(jobs), schedule.profit);
+            }
+            return compare(input, Arrays.toString(durationGreedy(deadlines, durations, profits, horizon)), Arrays.toString(schedule.accepted));
+        }));
+
+        targets.add(new Target("FractionalKnapsackProblem.fractionalKnapsack", 40, (random, n) -> {
+            int[] weights = new int[n], values = new int[n];
+            // large weights and values on purpose, their product does not fit in an int
+            int scale = random.nextBoolean() ? 100 : 1_000_000;
+            for (int i = 0; i < n; i++) {
+                weights[i] = 1 + random.nextInt(scale);
+                values[i] = random.nextInt(scale);
+            }
+            int capacity = random.nextInt(scale * Math.max(1, n / 2) + 1);
+            double expected = knapsackReference(weights, values, capacity);
+            double actual = FractionalKnapsackProblem.fractionalKnapsack(weights.clone(), values.clone(), capacity);
+            String input = "weights=" + Arrays.toString(weights) + " values=" + Arrays.toString(values) + " capacity=" + capacity;
+            if (Math.abs(expected - actual) > 1e-9 * Math.max(1, Math.abs(expected))) return mismatch(input, expected, actual);
+            return null;
+        }));
+
+        // small n for the brute force; capacities from tiny to beyond the DP limit
+        targets.add(new Target("ZeroOneKnapsack", 14, (random, n) -> {
+            int scale = new int[]{20, 300, 50_000_000}[random.nextInt(3)];
+            int[] weights = new int[n], values = new int[n];
+            for (int i = 0; i < n; i++) {
+                weights[i] = 1 + random.nextInt(scale);
+                values[i] = random.nextInt(random.nextBoolean() ? 100 : Integer.MAX_VALUE);
+            }
+            int capacity = random.nextInt(scale * Math.max(1, n / 2));
+            String input = "weights=" + Arrays.toString(weights) + " values=" + Arrays.toString(values) + " capacity=" + capacity;
+            long best = 0;
+            boolean[] sums = new boolean[scale <= 300 ? capacity + 1 : 0];
+            for (int mask = 0; mask < 1 << n; mask++) {
+                long weight = 0, value = 0;
+                for (int i = 0; i < n; i++) {
+                    if ((mask >> i & 1) != 0) {
+                        weight += weights[i];
+                        value += values[i];
+                    }
+                }
+                if (weight <= capacity) {
+                    best = Math.max(best, value);
+                    if (sums.length > 0) sums[(int) weight] = true;
+                }
+            }
+            String failure = compare(input, best, ZeroOneKnapsack.maxValue(weights, values, capacity));
+            if (failure == null) {
+                failure = compare(input + " (branch and bound)", best,
+                        ZeroOneKnapsack.maxValueByBranchAndBound(weights, values, capacity, SearchBudget.unlimited()).value());
+            }
+            if (failure != null || sums.length == 0) return failure;
+            failure = compare(input + " (dp)", best, ZeroOneKnapsack.maxValueByDp(weights, values, capacity, false));
+            if (failure == null) failure = compare(input + " (parallel dp)", best, ZeroOneKnapsack.maxValueByDp(weights, values, capacity, true));
+            int maxFill = capacity;
+            while (!sums[maxFill]) maxFill--;
+            if (failure == null) failure = compare(input + " (max fill)", maxFill, ZeroOneKnapsack.maxFill(weights, capacity));
+            int target = random.nextInt(capacity + 1);
+            if (failure == null) failure = compare(input + " (exactly " + target + ")", sums[target], ZeroOneKnapsack.canFillExactly(weights, target));
+            return failure;
+        }));
+
+        targets.add(new Target("AssignCookies.maxNumOfStudentWithCookies", 40, (random, n) -> {
+            int[] students = new int[n], cookies = new int[random.nextInt(n + 1)];
+            for (int i = 0; i < students.length; i++) students[i] = 1 + random.nextInt(10);
+            for (int i = 0; i < cookies.length; i++) cookies[i] = 1 + random.nextInt(10);
+            int expected = maxMatching(students, cookies);
+            String input = "students=" + Arrays.toString(students) + " cookies=" + Arrays.toString(cookies);
+            return compare(input, expected, AssignCookies.maxNumOfStudentWithCookies(students.clone(), cookies.clone()));
+        }));
+
+        NMeetings1room meetings = new NMeetings1room();
+        targets.add(new Target("NMeetings1room.maxMeetings", 12, (random, n) -> {
+            int[] start = new int[n], end = new int[n];
+            for (int i = 0; i < n; i++) {
+                start[i] = random.nextInt(50);
+                end[i] = start[i] + random.nextInt(10);
+            }
+            int expected = 0;
+            for (int mask = 0; mask < 1 << n; mask++) {
+                if (Integer.bitCount(mask) > expected && disjointMeetings(start, end, mask)) expected = Integer.bitCount(mask);
+            }
+            String input = "start=" + Arrays.toString(start) + " end=" + Arrays.toString(end);
+            return compare(input, expected, meetings.maxMeetings(start, end));
+        }));
+
+        int[] coins = {1, 2, 5, 10, 20, 50, 100, 500, 1000};
+        int[] minCoins = new int[20_001];
+        for (int value = 1; value < minCoins.length; value++) {
+            minCoins[value] = Integer.MAX_VALUE;
+            for (int coin : coins) if (coin <= value) minCoins[value] = Math.min(minCoins[value], minCoins[value - coin] + 1);
+        }
+        targets.add(new Target("MinNumOfCoins.findMinNumOfCoins", 1, (random, n) -> {
+            int value = random.nextInt(minCoins.length);
+            return compare("value=" + value, minCoins[value], MinNumOfCoins.findMinNumOfCoins(value));
+        }));
+        // random filter / map chains against the same chain on a stream; every 8th source is past the parallel
+        // threshold (2^16 elements), and a LinkedList source, which is never split, is mixed in
+        targets.add(new Target("ListPipeline", 20, (random, n) -> {
+            int size = random.nextInt(8) == 0 ? (1 << 16) + random.nextInt(n << 13) : random.nextInt(50 * n + 1);
+            List<Integer> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) values.add(random.nextInt(2001) - 1000);
+            List<Integer> source = size < 1000 && random.nextBoolean() ? new LinkedList<>(values) : values;
+            int divisor = 1 + random.nextInt(5), factor = random.nextInt(7) - 3, offset = random.nextInt(100);
+            String input = source.getClass().getSimpleName() + " size=" + size + " divisor=" + divisor + " factor=" + factor + " offset=" + offset;
+            ListPipeline<Integer> pipeline = random.nextInt(4) == 0 ? ListPipeline.of(source).sequential() : ListPipeline.of(source);
+
+            String failure = compare(input + " filter/map/toList",
+                    source.stream().filter(x -> x % divisor == 0).map(x -> x * factor).map(String::valueOf).toList(),
+                    pipeline.filter(x -> x % divisor == 0).map(x -> x * factor).map(String::valueOf).toList());
+            if (failure == null) failure = compare(input + " count",
+                    source.stream().filter(x -> x > offset).count(), pipeline.filter(x -> x > offset).count());
+            if (failure == null) failure = compare(input + " mapToInt sum",
+                    source.stream().mapToInt(Integer::intValue).filter(x -> x % divisor != 0).map(x -> x * factor + offset).asLongStream().sum(),
+                    pipeline.mapToInt(Integer::intValue).filter(x -> x % divisor != 0).map(x -> x * factor + offset).sum());
+            if (failure == null) failure = compare(input + " mapToInt toArray",
+                    Arrays.toString(source.stream().mapToInt(x -> x * factor).filter(x -> x > offset).toArray()),
+                    Arrays.toString(pipeline.mapToInt(x -> x * factor).filter(x -> x > offset).toArray()));
+            if (failure == null) failure = compare(input + " mapToLong sum",
+                    source.stream().mapToLong(x -> (long) x * Integer.MAX_VALUE).sum(),
+                    pipeline.mapToLong(x -> (long) x * Integer.MAX_VALUE).sum());
+            if (failure == null) {
+                List<Integer> visited = new ArrayList<>();
+                pipeline.filter(x -> x % divisor == 0).forEach(visited::add);
+                failure = compare(input + " forEach order", source.stream().filter(x -> x % divisor == 0).toList(), visited);
+            }
+            return failure;
+        }));
+    }
+
+    // ---------- references ----------
+
+    // profit first (ties by index), each job takes the latest free slots up to its deadline, one slot at a time
+    static boolean[] durationGreedy(int[] deadlines, int[] durations, int[] profits, int horizon) {
+        Integer[] order = new Integer[deadlines.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> profits[a] != profits[b] ? Integer.compare(profits[b], profits[a]) : Integer.compare(a, b));
+        boolean[] taken = new boolean[horizon + 1], accepted = new boolean[deadlines.length];
+        for (int job : order) {
+            int free = 0;
+            for (int t = 1; t <= deadlines[job]; t++) if (!taken[t]) free++;
+            if (free < durations[job]) continue;
+            accepted[job] = true;
+            for (int t = deadlines[job], left = durations[job]; left > 0; t--) {
+                if (!taken[t]) {
+                    taken[t] = true;
+                    left--;
+                }
+            }
+        }
+        return accepted;
+    }
+
+    // a set of jobs fits if, taken by deadline, the i-th job (1 based) has deadline >= i
+    static boolean feasibleJobs(int[][] jobs, int mask) {
+        int[] deadlines = new int[Integer.bitCount(mask)];
+        int count = 0;
+        for (int i = 0; i < jobs.length; i++) if ((mask >> i & 1) != 0) deadlines[count++] = jobs[i][1];
+        Arrays.sort(deadlines);
+        for (int i = 0; i < count; i++) if (deadlines[i] < i + 1) return false;
+        return true;
+    }
+
+    // greedy by value / weight, compared exactly with cross multiplication and summed in long
+    static double knapsackReference(int[] weights, int[] values, int capacity) {
+        Integer[] order = new Integer[weights.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare((long) values[b] * weights[a], (long) values[a] * weights[b]));
+        long left = capacity, whole = 0;
+        for (int i : order) {
+            if (left <= 0) break;
+            if (weights[i] <= left) {
+                whole += values[i];
+                left -= weights[i];
+            } else {
+                return whole + (double) left * values[i] / weights[i];
+            }
+        }
+        return whole;
+    }
+
+    // Kuhn's augmenting paths: student i can take cookie j when cookies[j] >= students[i]
+    static int maxMatching(int[] students, int[] cookies) {
+        int[] cookieOwner = new int[cookies.length];
+        Arrays.fill(cookieOwner, -1);
+        int matched = 0;
+        for (int student = 0; student < students.length; student++) {
+            if (augment(student, students, cookies, cookieOwner, new boolean[cookies.length])) matched++;
+        }
+        return matched;
+    }
+
+    private static boolean augment(int student, int[] students, int[] cookies, int[] cookieOwner, boolean[] seen) {
+        for (int cookie = 0; cookie < cookies.length; cookie++) {
+            if (cookies[cookie] < students[student] || seen[cookie]) continue;
+            seen[cookie] = true;
+            if (cookieOwner[cookie] == -1 || augment(cookieOwner[cookie], students, cookies, cookieOwner, seen)) {
+                cookieOwner[cookie] = student;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // meetings share the room only if one starts strictly after the other ends
+    static boolean disjointMeetings(int[] start, int[] end, int mask) {
+        for (int i = 0; i < start.length; i++) {
+            if ((mask >> i & 1) == 0) continue;
+            for (int j = i + 1; j < start.length; j++) {
+                if ((mask >> j & 1) != 0 && !(start[j] > end[i] || start[i] > end[j])) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package DSA.Benchmark;
+
+import DSA.Benchmark.DifferentialFuzzer.Target;
+import DSA.PrimitiveCollections.IntArray;
+import DSA.PrimitiveCollections.IntList;
+import DSA.PrimitiveCollections.IntResultStore;
+import DSA.PrimitiveCollections.IntRows;
+import DSA.Recursion.CombinationSum3;
+import DSA.Recursion.CombinationSumRepeatAllowed;
+import DSA.Recursion.CombinationSumRepeatConstrainUnique;
+import DSA.Recursion.PalindromePartioning;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.SearchBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static DSA.Benchmark.DifferentialFuzzer.compare;
+import static DSA.Benchmark.DifferentialFuzzer.distinctInts;
+import static DSA.Benchmark.DifferentialFuzzer.mismatch;
+import static DSA.Benchmark.DifferentialFuzzer.randomInts;
+
+// DifferentialFuzzer targets for DSA.PrimitiveCollections, checked against the boxed List<List<Integer>> results
+class PrimitiveCollectionsFuzzTargets {
+
+    static void addTo(List<Target> targets) {
+        // the IntRows variants must give the boxed results exactly, same rows in the same order
+        targets.add(new Target("PrimitiveCollections", 12, (random, n) -> {
+            int[] nums = randomInts(random, n, 20);
+            String failure = compare("powerSetInts " + Arrays.toString(nums), PowerSet.powerSet(nums), PowerSet.powerSetInts(nums).toLists());
+            int[] candidates = distinctInts(random, Math.min(n, 6), 12);
+            int target = 1 + random.nextInt(25);
+            if (failure == null) failure = compare("combinationSumInts " + Arrays.toString(candidates) + " target=" + target,
+                    CombinationSumRepeatAllowed.combinationSum(candidates, target),
+                    CombinationSumRepeatAllowed.combinationSumInts(candidates, target).toLists());
+            for (int i = 0; i < n; i++) nums[i]++;
+            if (failure == null) failure = compare("combinationSum2Ints " + Arrays.toString(nums) + " target=" + target,
+                    CombinationSumRepeatConstrainUnique.combinationSum2(nums.clone(), target),
+                    CombinationSumRepeatConstrainUnique.combinationSum2Ints(nums, target).toLists());
+            int k = random.nextInt(10), sum = random.nextInt(46);
+            if (failure == null) failure = compare("combinationSum3Ints k=" + k + " n=" + sum,
+                    CombinationSum3.combinationSum3(k, sum), CombinationSum3.combinationSum3Ints(k, sum).toLists());
+
+            // IntList as a stack against an ArrayList, List compatible hashCode / toString, equals through asList()
+            IntList stack = new IntList();
+            List<Integer> reference = new ArrayList<>();
+            for (int step = 0; step < 8 * n && failure == null; step++) {
+                if (!reference.isEmpty() && random.nextInt(3) == 0) {
+                    if (stack.pop() != reference.removeLast()) failure = "pop differs at step " + step;
+                } else {
+                    int value = random.nextInt(2000) - 1000;
+                    stack.push(value);
+                    reference.add(value);
+                }
+                IntArray snapshot = stack.snapshot();
+                if (failure == null && (!snapshot.asList().equals(reference) || snapshot.hashCode() != reference.hashCode()
+                        || !stack.toString().equals(reference.toString()) || !snapshot.equals(IntArray.of(stack.toArray())))) {
+                    failure = mismatch("IntList step " + step, reference, stack);
+                }
+            }
+            return failure;
+        }));
+
+        // tiny chunks and budgets, so rows cross chunk borders and most chunks are read back from the spill file
+        targets.add(new Target("IntResultStore", 40, (random, n) -> {
+            int chunkInts = 1 << random.nextInt(7);
+            IntRows expected = new IntRows();
+            try (IntResultStore store = new IntResultStore(4L * chunkInts * random.nextInt(4), chunkInts)) {
+                for (int r = 0; r < 20 * n; r++) {
+                    int[] row = randomInts(random, random.nextInt(3 * chunkInts + 2), 1000);
+                    expected.add(row, 0, row.length);
+                    store.add(row, 0, row.length);
+                    // random reads while writing, of rows that may have been spilled since
+                    int probe = random.nextInt(expected.size());
+                    if (!store.row(probe).equals(expected.get(probe))) return mismatch("row " + probe + " while writing", expected.get(probe), store.row(probe));
+                }
+                String input = "chunkInts=" + chunkInts + " rows=" + expected.size();
+                if (store.size() != expected.size() || store.valueCount() != expected.valueCount()) {
+                    return mismatch(input + " sizes", expected.size() + "/" + expected.valueCount(), store.size() + "/" + store.valueCount());
+                }
+                int r = 0;
+                for (IntArray row : store) {
+                    if (!row.equals(expected.get(r))) return mismatch(input + " iterated row " + r, expected.get(r), row);
+                    if (row.size() > 0) {
+                        int column = random.nextInt(row.size());
+                        if (store.get(r, column) != expected.get(r, column)) return input + " get(" + r + ", " + column + ") differs";
+                    }
+                    r++;
+                }
+            }
+
+            // the solvers write the same rows into a spilling store as into an IntRows
+            int[] nums = randomInts(random, Math.min(n, 14), 20);
+            String failure;
+            try (IntResultStore store = new IntResultStore(0, 16)) {
+                PowerSet.powerSet(nums, store, SearchBudget.unlimited());
+                failure = compare("powerSet into a store " + Arrays.toString(nums), PowerSet.powerSetInts(nums), toRows(store));
+            }
+            char[] chars = new char[Math.min(n, 14)];
+            for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(2));
+            String s = new String(chars);
+            if (failure == null) {
+                try (IntResultStore store = new IntResultStore(0, 16)) {
+                    PalindromePartioning.partitionCuts(s, store);
+                    List<List<String>> fromCuts = new ArrayList<>();
+                    for (IntArray cuts : store) {
+                        List<String> parts = new ArrayList<>();
+                        for (int p = 0, start = 0; p < cuts.size(); start = cuts.get(p++)) parts.add(s.substring(start, cuts.get(p)));
+                        fromCuts.add(parts);
+                    }
+                    failure = compare("partitionCuts " + s, PalindromePartioning.partition(s), fromCuts);
+                }
+            }
+            int[] candidates = distinctInts(random, Math.min(n, 6), 12);
+            int target = 1 + random.nextInt(25);
+            if (failure == null) {
+                try (IntResultStore store = new IntResultStore(0, 8)) {
+                    CombinationSumRepeatAllowed.combinationSum(candidates, target, store);
+                    CombinationSumRepeatConstrainUnique.combinationSum2(nums, target, store);
+                    CombinationSum3.combinationSum3(3, target, store);
+                    IntRows expectedRows = CombinationSumRepeatAllowed.combinationSumInts(candidates, target);
+                    for (IntArray row : CombinationSumRepeatConstrainUnique.combinationSum2Ints(nums, target)) expectedRows.add(row);
+                    for (IntArray row : CombinationSum3.combinationSum3Ints(3, target)) expectedRows.add(row);
+                    failure = compare("combination sums into a store " + Arrays.toString(candidates) + " " + Arrays.toString(nums)
+                            + " target=" + target, expectedRows, toRows(store));
+                }
+            }
+            return failure;
+        }));
+    }
+
+    static IntRows toRows(IntResultStore store) {
+        IntRows rows = new IntRows();
+        for (IntArray row : store) rows.add(row);
+        return rows;
+    }
+}
@@ -0,0 +1,504 @@
+package DSA.Benchmark;
+
+import DSA.Benchmark.DifferentialFuzzer.Target;
+import DSA.Recursion.CombinationSum3;
+import DSA.Recursion.CombinationSumIndex;
+import DSA.Recursion.CombinationSumRepeatAllowed;
+import DSA.Recursion.CombinationSumRepeatConstrainUnique;
+import DSA.Recursion.NQueen;
+import DSA.Recursion.NQueenCompletion;
+import DSA.Recursion.PalindromePartioning;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.PowerXN;
+import DSA.Recursion.QueenSolutionFile;
+import DSA.Recursion.RatMaze;
+import DSA.Recursion.SearchBudget;
+import DSA.Recursion.SubsequenceSumIsK;
+import DSA.Recursion.SudokuGenerator;
+import DSA.Recursion.SudokuSolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static DSA.Benchmark.DifferentialFuzzer.compare;
+import static DSA.Benchmark.DifferentialFuzzer.compareMultiset;
+import static DSA.Benchmark.DifferentialFuzzer.distinctInts;
+import static DSA.Benchmark.DifferentialFuzzer.mismatch;
+import static DSA.Benchmark.DifferentialFuzzer.randomInts;
+
+// DifferentialFuzzer targets for DSA.Recursion, checked against plain searches without pruning or caching
+class RecursionFuzzTargets {
+
+    static void addTo(List<Target> targets) {
+        NQueen nQueen = new NQueen();
+        targets.add(new Target("NQueen.solveNQueens", 8, (random, n) -> {
+            List<List<String>> boards = nQueen.solveNQueens(n);
+            for (List<String> board : boards) {
+                if (!validQueens(board, n)) return "n=" + n + " invalid board " + board;
+            }
+            if (hasDuplicates(boards)) return "n=" + n + " returned the same board twice";
+            return compare("n=" + n, countQueens(n, 0, new int[n]), boards.size());
+        }));
+
+        // the byte encoding and the file round trip must give back exactly the boards of solveNQueens, in order
+        targets.add(new Target("QueenSolutionFile", 9, (random, n) -> {
+            List<List<String>> boards = nQueen.solveNQueens(n);
+            try {
+                Path file = Files.createTempFile("queens", ".nqsf");
+                try {
+                    long count;
+                    try (QueenSolutionFile.Writer writer = QueenSolutionFile.Writer.create(file, n)) {
+                        count = NQueen.forEachSolution(n, writer);
+                    }
+                    QueenSolutionFile.Reader reader = QueenSolutionFile.Reader.open(file);
+                    if (count != boards.size() || reader.count() != boards.size()) {
+                        return mismatch("n=" + n, boards.size(), count + " written, " + reader.count() + " read");
+                    }
+                    for (int i = 0; i < boards.size(); i++) {
+                        if (!boards.get(i).equals(reader.board(i))) return mismatch("n=" + n + " board " + i, boards.get(i), reader.board(i));
+                    }
+                    return null;
+                } finally {
+                    Files.delete(file);
+                }
+            } catch (IOException e) {
+                return "n=" + n + " " + e;
+            }
+        }));
+
+        // random queens (possibly attacking each other) in random rows, checked against the plain row by row count
+        targets.add(new Target("NQueenCompletion", 10, (random, n) -> {
+            int[] queens = new int[n];
+            Arrays.fill(queens, -1);
+            for (int placed = random.nextInt(Math.min(n, 3) + 1); placed > 0; placed--) queens[random.nextInt(n)] = random.nextInt(n);
+            String input = "queens=" + Arrays.toString(queens);
+            int expected = countQueens(n, 0, new int[n], queens);
+            String error = compare(input, (long) expected, NQueenCompletion.countCompletions(queens));
+            if (error != null) return error;
+            int[] completion = NQueenCompletion.findCompletion(queens, SearchBudget.unlimited()).value();
+            if ((completion != null) != (expected > 0)) return mismatch(input + " has a completion", expected > 0, completion != null);
+            if (completion == null) return null;
+            for (int r = 0; r < n; r++) {
+                if (queens[r] >= 0 && completion[r] != queens[r]) return input + " moved a placed queen: " + Arrays.toString(completion);
+            }
+            return validQueens(NQueenCompletion.board(completion), n) ? null : input + " invalid completion " + Arrays.toString(completion);
+        }));
+
+        targets.add(new Target("SudokuSolver.solve", 60, (random, holes) -> {
+            char[][] solution = randomSudoku(random);
+            char[][] board = new char[9][];
+            for (int i = 0; i < 9; i++) board[i] = solution[i].clone();
+            for (int i = 0; i < holes; i++) board[random.nextInt(9)][random.nextInt(9)] = '.';
+            char[][] puzzle = new char[9][];
+            for (int i = 0; i < 9; i++) puzzle[i] = board[i].clone();
+            // the puzzle comes from a full grid, so it must be solvable; with many holes the answer may differ
+            // from that grid, it only has to be a valid grid that keeps the givens
+            if (!new SudokuSolver().solve(board)) return mismatch(toString(puzzle), true, false);
+            if (!validSudoku(board, puzzle)) return "puzzle " + toString(puzzle) + " gave invalid grid " + toString(board);
+            return null;
+        }));
+
+        targets.add(new Target("SudokuSolver.countSolutions", 60, (random, holes) -> {
+            char[][] board = randomSudoku(random);
+            for (int i = 0; i < holes; i++) board[random.nextInt(9)][random.nextInt(9)] = '.';
+            // sometimes a clashing clue, then there is no solution at all
+            if (random.nextInt(10) == 0) board[random.nextInt(9)][random.nextInt(9)] = (char) ('1' + random.nextInt(9));
+            int[] grid = new int[81];
+            for (int cell = 0; cell < 81; cell++) grid[cell] = board[cell / 9][cell % 9] == '.' ? 0 : board[cell / 9][cell % 9] - '0';
+            int expected = validSudokuClues(grid) ? countSudoku(grid, 3) : 0;
+            return compare(toString(board), expected, SudokuSolver.countSolutions(board, 3));
+        }));
+
+        targets.add(new Target("SudokuGenerator.generate", 1, (random, size) -> {
+            char[][] puzzle = new SudokuGenerator(random.nextLong()).generate();
+            int[] grid = new int[81];
+            for (int cell = 0; cell < 81; cell++) grid[cell] = puzzle[cell / 9][cell % 9] == '.' ? 0 : puzzle[cell / 9][cell % 9] - '0';
+            if (countSudoku(grid, 2) != 1) return toString(puzzle) + " is not unique";
+            // minimal: removing any clue must allow a second solution
+            for (int cell = 0; cell < 81; cell++) {
+                if (grid[cell] == 0) continue;
+                int digit = grid[cell];
+                grid[cell] = 0;
+                boolean ambiguous = countSudoku(grid, 2) == 2;
+                grid[cell] = digit;
+                if (!ambiguous) return toString(puzzle) + " still unique without the clue at " + cell;
+            }
+            return null;
+        }));
+
+        targets.add(new Target("PowerSet.powerSet", 12, (random, n) -> {
+            int[] nums = randomInts(random, n, 20);
+            List<List<Integer>> expected = new ArrayList<>();
+            for (int mask = 0; mask < 1 << n; mask++) {
+                List<Integer> subset = new ArrayList<>();
+                for (int i = 0; i < n; i++) if ((mask >> i & 1) != 0) subset.add(nums[i]);
+                expected.add(subset);
+            }
+            return compareMultiset(Arrays.toString(nums), expected, PowerSet.powerSet(nums));
+        }));
+
+        targets.add(new Target("SubsequenceSumIsK.checkSubsequenceSum", 16, (random, n) -> {
+            int[] nums = new int[n];
+            for (int i = 0; i < n; i++) nums[i] = 1 + random.nextInt(20);
+            int target = 1 + random.nextInt(10 * n + 1);
+            boolean expected = false;
+            for (int mask = 1; mask < 1 << n && !expected; mask++) {
+                int sum = 0;
+                for (int i = 0; i < n; i++) if ((mask >> i & 1) != 0) sum += nums[i];
+                expected = sum == target;
+            }
+            return compare(Arrays.toString(nums) + " target=" + target, expected, SubsequenceSumIsK.checkSubsequenceSum(nums, target));
+        }));
+
+        // the "less optimal" include / exclude recursion kept in CombinationSum3 is the reference
+        targets.add(new Target("CombinationSum3.combinationSum3", 9, (random, k) -> {
+            int n = 1 + random.nextInt(45);
+            List<List<Integer>> expected = new ArrayList<>();
+            CombinationSum3.LessOptimalFindFeasibleCombination(0, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, expected, new ArrayList<>(), n, k);
+            List<List<Integer>> backtracking = CombinationSum3.combinationSum3Backtracking(k, n);
+            String failure = compareMultiset("k=" + k + " n=" + n, expected, backtracking);
+            // the index must give the same lists in the same order as the backtracking
+            if (failure == null) failure = compare("k=" + k + " n=" + n + " (index)", backtracking, CombinationSum3.combinationSum3(k, n));
+            if (failure == null) failure = compare("k=" + k + " n=" + n + " (view)", backtracking, CombinationSum3.combinationSum3View(k, n));
+            return failure;
+        }));
+
+        targets.add(new Target("CombinationSumRepeatAllowed.combinationSum", 6, (random, n) -> {
+            int[] nums = distinctInts(random, n, 12);
+            int target = 1 + random.nextInt(25);
+            List<List<Integer>> expected = new ArrayList<>();
+            repeatedCombinations(nums, 0, target, new ArrayList<>(), expected);
+            return compareMultiset(Arrays.toString(nums) + " target=" + target, expected, CombinationSumRepeatAllowed.combinationSum(nums, target));
+        }));
+
+        targets.add(new Target("CombinationSumRepeatConstrainUnique.combinationSum2", 12, (random, n) -> {
+            int[] nums = randomInts(random, n, 8);
+            for (int i = 0; i < n; i++) nums[i]++;
+            int target = 1 + random.nextInt(20);
+            Set<List<Integer>> distinct = new HashSet<>();
+            int[] sorted = nums.clone();
+            Arrays.sort(sorted);
+            for (int mask = 1; mask < 1 << n; mask++) {
+                List<Integer> combination = new ArrayList<>();
+                int sum = 0;
+                for (int i = 0; i < n; i++) {
+                    if ((mask >> i & 1) != 0) {
+                        combination.add(sorted[i]);
+                        sum += sorted[i];
+                    }
+                }
+                if (sum == target) distinct.add(combination);
+            }
+            String input = Arrays.toString(nums) + " target=" + target;
+            return compareMultiset(input, new ArrayList<>(distinct), CombinationSumRepeatConstrainUnique.combinationSum2(nums, target));
+        }));
+
+        // lengths up to 20, past SPLIT_LENGTH so the parallel mode really forks
+        targets.add(new Target("PalindromePartioning.partition", 20, (random, size) -> {
+            int n = Math.min(20, size + random.nextInt(6));
+            char[] chars = new char[n];
+            for (int i = 0; i < n; i++) chars[i] = (char) ('a' + random.nextInt(2));
+            String s = new String(chars);
+            List<List<String>> partitions = PalindromePartioning.partition(s);
+            for (List<String> partition : partitions) {
+                if (!String.join("", partition).equals(s)) return s + ": partition " + partition + " does not spell the input";
+                for (String part : partition) if (!new StringBuilder(part).reverse().toString().equals(part)) return s + ": " + part + " is not a palindrome";
+            }
+            // count[i] = number of palindrome partitions of s[i..]
+            long[] count = new long[n + 1];
+            count[n] = 1;
+            for (int i = n - 1; i >= 0; i--) {
+                for (int j = i + 1; j <= n; j++) {
+                    String part = s.substring(i, j);
+                    if (new StringBuilder(part).reverse().toString().equals(part)) count[i] += count[j];
+                }
+            }
+            if (hasDuplicates(partitions)) return s + ": returned the same partition twice";
+            String failure = compare(s, count[0], (long) partitions.size());
+            if (failure == null) failure = compare(s + " (dp count)", count[0], PalindromePartioning.countPartitions(s));
+            if (failure == null) {
+                List<List<String>> streamed = Collections.synchronizedList(new ArrayList<>());
+                PalindromePartioning.forEachPartitionParallel(s, cuts -> {
+                    List<String> parts = new ArrayList<>();
+                    for (int p = 0; p < cuts.length; p++) parts.add(s.substring(p == 0 ? 0 : cuts[p - 1], cuts[p]));
+                    streamed.add(parts);
+                });
+                if (!new HashSet<>(streamed).equals(new HashSet<>(partitions)) || streamed.size() != partitions.size()) {
+                    return mismatch(s + " (parallel)", partitions, streamed);
+                }
+            }
+            return failure;
+        }));
+
+        RatMaze ratMaze = new RatMaze();
+        targets.add(new Target("RatMaze.findPath", 5, (random, n) -> {
+            int[][] grid = new int[n][n];
+            for (int[] row : grid) for (int j = 0; j < n; j++) row[j] = random.nextInt(4) == 0 ? 0 : 1;
+            String input = Arrays.deepToString(grid);
+            long expected = grid[0][0] == 0 || grid[n - 1][n - 1] == 0 ? 0 : countPaths(grid, 0, 0, new boolean[n][n]);
+            List<String> paths = ratMaze.findPath(grid);
+            if (!Arrays.deepToString(grid).equals(input)) return input + ": grid was modified";
+            for (String path : paths) if (!validPath(grid, path)) return input + ": invalid path " + path;
+            if (hasDuplicates(paths)) return input + ": returned the same path twice";
+            String failure = compare(input, expected, (long) paths.size());
+            if (failure == null) failure = compare(input + " (parallel count)", expected, ratMaze.countPathsParallel(grid));
+            if (failure == null) {
+                List<String> streamed = Collections.synchronizedList(new ArrayList<>());
+                ratMaze.findPathsParallel(grid, streamed::add);
+                failure = compareMultiset(input + " (parallel paths)", List.of(paths), List.of(new ArrayList<>(streamed)));
+            }
+            return failure;
+        }));
+
+        targets.add(new Target("PowerXN.myPow", 1, (random, size) -> {
+            double x = (random.nextDouble() - 0.5) * 4;
+            int n = random.nextInt(61) - 30;
+            if (random.nextInt(20) == 0) n = random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            double expected = Math.pow(x, n), actual = PowerXN.myPow(x, n);
+            boolean close = expected == actual || Math.abs(expected - actual) <= 1e-12 * Math.abs(expected)
+                    || (Double.isNaN(expected) && Double.isNaN(actual));
+            return close ? null : mismatch("x=" + x + " n=" + n, expected, actual);
+        }));
+        // save() and load() must round trip every bucket, with 2 byte masks (D <= 16) and 4 byte masks (D > 16),
+        // the counts must match a brute force over all subsets, and a truncated snapshot must be rejected
+        targets.add(new Target("CombinationSumIndex", 15, (random, n) -> {
+            int maxDigit = random.nextInt(4) == 0 ? Math.min(CombinationSumIndex.MAX_DIGIT, n + 5) : n;
+            CombinationSumIndex index = CombinationSumIndex.build(maxDigit);
+            int maxSum = maxDigit * (maxDigit + 1) / 2;
+            String input = "maxDigit=" + maxDigit;
+            int[][] counts = new int[maxDigit + 1][maxSum + 1];
+            for (int mask = 0; mask < 1 << maxDigit; mask++) {
+                int sum = 0;
+                for (int d = 1; d <= maxDigit; d++) if ((mask >> (d - 1) & 1) != 0) sum += d;
+                counts[Integer.bitCount(mask)][sum]++;
+            }
+            Path file = null;
+            try {
+                file = Files.createTempFile("fuzz-index", ".bin");
+                index.save(file);
+                CombinationSumIndex loaded = CombinationSumIndex.load(file);
+                if (loaded.maxDigit() != maxDigit) return mismatch(input + " maxDigit", maxDigit, loaded.maxDigit());
+                for (int k = 0; k <= maxDigit; k++) {
+                    for (int sum = 0; sum <= maxSum; sum++) {
+                        if (index.count(k, sum) != counts[k][sum]) return mismatch(input + " count(" + k + ", " + sum + ")", counts[k][sum], index.count(k, sum));
+                        if (loaded.count(k, sum) != counts[k][sum]) return mismatch(input + " loaded count(" + k + ", " + sum + ")", counts[k][sum], loaded.count(k, sum));
+                        for (int i = 0; i < counts[k][sum]; i++) {
+                            if (loaded.mask(k, sum, i) != index.mask(k, sum, i)) {
+                                return mismatch(input + " loaded mask(" + k + ", " + sum + ", " + i + ")", index.mask(k, sum, i), loaded.mask(k, sum, i));
+                            }
+                        }
+                    }
+                }
+                byte[] bytes = Files.readAllBytes(file);
+                Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+                try {
+                    CombinationSumIndex.load(file);
+                    return input + ": a snapshot missing its last byte was loaded";
+                } catch (IOException expected) {
+                    // rejected as it should be
+                }
+            } catch (IOException e) {
+                return "threw " + e;
+            } finally {
+                if (file != null) file.toFile().delete();
+            }
+            return null;
+        }));
+    }
+
+    // ---------- references ----------
+
+    // plain permutation search: cols[row] is the column of the queen in that row
+    static int countQueens(int n, int row, int[] cols) {
+        int[] free = new int[n];
+        Arrays.fill(free, -1);
+        return countQueens(n, row, cols, free);
+    }
+
+    // fixed[r] >= 0 only allows that column in row r
+    static int countQueens(int n, int row, int[] cols, int[] fixed) {
+        if (row == n) return 1;
+        int count = 0;
+        for (int col = 0; col < n; col++) {
+            if (fixed[row] >= 0 && fixed[row] != col) continue;
+            boolean safe = true;
+            for (int r = 0; r < row && safe; r++) safe = cols[r] != col && Math.abs(cols[r] - col) != row - r;
+            if (safe) {
+                cols[row] = col;
+                count += countQueens(n, row + 1, cols, fixed);
+            }
+        }
+        return count;
+    }
+
+    static boolean validQueens(List<String> board, int n) {
+        if (board.size() != n) return false;
+        int[] cols = new int[n];
+        for (int row = 0; row < n; row++) {
+            String line = board.get(row);
+            if (line.length() != n || line.indexOf('Q') < 0 || line.indexOf('Q') != line.lastIndexOf('Q')) return false;
+            cols[row] = line.indexOf('Q');
+            for (int r = 0; r < row; r++) if (cols[r] == cols[row] || Math.abs(cols[r] - cols[row]) == row - r) return false;
+        }
+        return true;
+    }
+
+    // a valid grid shuffled with random digit relabeling and row / column swaps inside bands and stacks
+    static char[][] randomSudoku(Random random) {
+        int[] digits = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int i = 8; i > 0; i--) swap(digits, i, random.nextInt(i + 1));
+        int[] rows = shuffledBands(random), cols = shuffledBands(random);
+        char[][] grid = new char[9][9];
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                int row = rows[r], col = cols[c];
+                grid[r][c] = (char) ('0' + digits[(row * 3 + row / 3 + col) % 9]);
+            }
+        }
+        return grid;
+    }
+
+    private static int[] shuffledBands(Random random) {
+        int[] order = new int[9];
+        for (int band = 0; band < 3; band++) {
+            int[] inside = {0, 1, 2};
+            for (int i = 2; i > 0; i--) swap(inside, i, random.nextInt(i + 1));
+            for (int i = 0; i < 3; i++) order[band * 3 + i] = band * 3 + inside[i];
+        }
+        return order;
+    }
+
+    // plain search over the 27 peers of a cell, the empty cell with the fewest fitting digits first; counts up to limit
+    static int countSudoku(int[] grid, int limit) {
+        int best = -1, fewest = 10;
+        for (int cell = 0; cell < 81 && fewest > 1; cell++) {
+            if (grid[cell] != 0) continue;
+            boolean[] fitting = fittingDigits(grid, cell);
+            int count = 0;
+            for (int digit = 1; digit <= 9; digit++) if (fitting[digit]) count++;
+            if (count < fewest) {
+                best = cell;
+                fewest = count;
+            }
+        }
+        if (best < 0) return 1;
+        boolean[] fitting = fittingDigits(grid, best);
+        int found = 0;
+        for (int digit = 1; digit <= 9 && found < limit; digit++) {
+            if (!fitting[digit]) continue;
+            grid[best] = digit;
+            found += countSudoku(grid, limit - found);
+            grid[best] = 0;
+        }
+        return found;
+    }
+
+    // digits not used by any other cell of the same row, column or box
+    static boolean[] fittingDigits(int[] grid, int cell) {
+        boolean[] fitting = new boolean[10];
+        Arrays.fill(fitting, 1, 10, true);
+        int row = cell / 9, col = cell % 9;
+        for (int i = 0; i < 9; i++) {
+            int boxCell = (row / 3 * 3 + i / 3) * 9 + col / 3 * 3 + i % 3;
+            if (row * 9 + i != cell) fitting[grid[row * 9 + i]] = false;
+            if (i * 9 + col != cell) fitting[grid[i * 9 + col]] = false;
+            if (boxCell != cell) fitting[grid[boxCell]] = false;
+        }
+        return fitting;
+    }
+
+    static boolean validSudokuClues(int[] grid) {
+        for (int cell = 0; cell < 81; cell++) if (grid[cell] != 0 && !fittingDigits(grid, cell)[grid[cell]]) return false;
+        return true;
+    }
+
+    static boolean validSudoku(char[][] grid, char[][] givens) {
+        for (int i = 0; i < 9; i++) {
+            int rowSeen = 0, colSeen = 0, boxSeen = 0;
+            for (int j = 0; j < 9; j++) {
+                if (givens[i][j] != '.' && givens[i][j] != grid[i][j]) return false;
+                int row = digitBit(grid[i][j]), col = digitBit(grid[j][i]);
+                int box = digitBit(grid[i / 3 * 3 + j / 3][i % 3 * 3 + j % 3]);
+                if (row == 0 || (rowSeen & row) != 0 || (colSeen & col) != 0 || (boxSeen & box) != 0) return false;
+                rowSeen |= row;
+                colSeen |= col;
+                boxSeen |= box;
+            }
+        }
+        return true;
+    }
+
+    private static int digitBit(char c) {
+        return c >= '1' && c <= '9' ? 1 << (c - '0') : 0;
+    }
+
+    static void repeatedCombinations(int[] nums, int index, int target, List<Integer> current, List<List<Integer>> res) {
+        if (target == 0) {
+            res.add(new ArrayList<>(current));
+            return;
+        }
+        if (index == nums.length) return;
+        // take nums[index] 0, 1, 2 ... times, then move on
+        int taken = 0;
+        for (; target >= 0; target -= nums[index], taken++) {
+            repeatedCombinations(nums, index + 1, target, current, res);
+            current.add(nums[index]);
+        }
+        for (int i = 0; i < taken; i++) current.removeLast();
+    }
+
+    static long countPaths(int[][] grid, int row, int col, boolean[][] visited) {
+        int n = grid.length;
+        if (row < 0 || col < 0 || row >= n || col >= n || grid[row][col] == 0 || visited[row][col]) return 0;
+        if (row == n - 1 && col == n - 1) return 1;
+        visited[row][col] = true;
+        long count = countPaths(grid, row + 1, col, visited) + countPaths(grid, row, col + 1, visited)
+                + countPaths(grid, row - 1, col, visited) + countPaths(grid, row, col - 1, visited);
+        visited[row][col] = false;
+        return count;
+    }
+
+    static boolean validPath(int[][] grid, String path) {
+        int n = grid.length, row = 0, col = 0;
+        boolean[][] visited = new boolean[n][n];
+        visited[0][0] = true;
+        for (char move : path.toCharArray()) {
+            switch (move) {
+                case 'D' -> row++;
+                case 'U' -> row--;
+                case 'R' -> col++;
+                case 'L' -> col--;
+                default -> { return false; }
+            }
+            if (row < 0 || col < 0 || row >= n || col >= n || grid[row][col] == 0 || visited[row][col]) return false;
+            visited[row][col] = true;
+        }
+        return row == n - 1 && col == n - 1;
+    }
+
+    // ---------- helpers ----------
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    static String toString(char[][] grid) {
+        StringBuilder res = new StringBuilder();
+        for (char[] row : grid) res.append(res.isEmpty() ? "" : "/").append(row);
+        return res.toString();
+    }
+
+    static boolean hasDuplicates(List<?> list) {
+        return new HashSet<>(list).size() != list.size();
+    }
+}
@@ -0,0 +1,137 @@
+package DSA.Benchmark;
+
+import DSA.ArrayBinaryTree;
+import DSA.PrimitiveCollections.IntResultStore;
+import DSA.Recursion.CombinationSumRepeatAllowed;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.SearchBudget;
+import DSA.VerticalOrderTraversalOfABinaryTree;
+import DSA.VerticalOrderTraversalOfABinaryTree.TreeNode;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+ * Heap footprint and GC pressure of large result sets, List<List<Integer>> against the IntRows (primitive) APIs
+ * and an IntResultStore that spills to a temp file past a 4 MB budget. Every case builds about 10M result elements:
+ *
+ *   java -Xmx3g DSA.Benchmark.ResultFootprint [--filter PowerSet]
+ *
+ * Per build (one untimed build first, so the JIT has compiled the solver):
+ *  •	build time, bytes allocated by the thread, GC cycles and GC time while building
+ *  •	retained: used heap with the result alive minus before it, both after a full GC (an estimate, like
+ *      ArrayBinaryTree's memory per node), and that divided by the number of elements; the spilled
+ *      chunks of a store are in the file (and the page cache), not on the heap
+ *  •	full GC time with the result alive: what every old generation collection pays to trace the result
+ *      (millions of ArrayList and Integer objects against two int arrays)
+ *
+ * Bench measures steady state per operation, which does not show what a result costs while it is kept.
+ */
+public class ResultFootprint {
+
+    public static void main(String[] args) {
+        String filter = args.length == 2 && args[0].equals("--filter") ? args[1] : null;
+        for (Case footprint : cases()) {
+            if (filter != null && !footprint.name.contains(filter)) continue;
+            System.out.println(footprint.name + ", " + String.format(Locale.ROOT, "%,d", footprint.elements) + " elements:");
+            measure("boxed List<List<Integer>>", footprint.elements, footprint.boxed);
+            measure("primitive IntRows", footprint.elements, footprint.primitive);
+            if (footprint.spilling != null) measure("IntResultStore, 4 MB", footprint.elements, footprint.spilling);
+        }
+    }
+
+    static class Case {
+        final String name;
+        final long elements;
+        final Supplier<?> boxed, primitive, spilling;
+
+        Case(String name, long elements, Supplier<?> boxed, Supplier<?> primitive, Supplier<IntResultStore> spilling) {
+            this.name = name;
+            this.elements = elements;
+            this.boxed = boxed;
+            this.primitive = primitive;
+            this.spilling = spilling;
+        }
+    }
+
+    static List<Case> cases() {
+        List<Case> cases = new ArrayList<>();
+        // 2^20 subsets, 20 * 2^19 elements
+        int[] nums = new Random(1).ints(20, 0, 1000).toArray();
+        cases.add(new Case("PowerSet[n=20]", 20L << 19, () -> PowerSet.powerSet(nums), () -> PowerSet.powerSetInts(nums),
+                () -> spilling(store -> PowerSet.powerSet(nums, store, SearchBudget.unlimited()))));
+
+        int[] candidates = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29};
+        int target = 150;
+        cases.add(new Case("CombinationSumRepeatAllowed[primes to 29, target=150]",
+                CombinationSumRepeatAllowed.combinationSumInts(candidates, target).valueCount(),
+                () -> CombinationSumRepeatAllowed.combinationSum(candidates, target),
+                () -> CombinationSumRepeatAllowed.combinationSumInts(candidates, target),
+                () -> spilling(store -> CombinationSumRepeatAllowed.combinationSum(candidates, target, store))));
+
+        cases.add(new Case("VerticalOrderTraversalOfABinaryTree[n=10M]", Tree.NODES,
+                () -> VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative(Tree.ROOT),
+                () -> VerticalOrderTraversalOfABinaryTree.verticalTraversalInts(Tree.ROOT), null));
+        return cases;
+    }
+
+    private static IntResultStore spilling(Consumer<IntResultStore> solver) {
+        IntResultStore store = new IntResultStore(4 << 20, 1 << 18);
+        solver.accept(store);
+        return store;
+    }
+
+    // built on first use: 10M live TreeNodes would slow down every full GC of the cases before
+    private static class Tree {
+        static final int NODES = 10_000_000;
+        static final TreeNode ROOT = ArrayBinaryTree.randomTree(NODES, new Random(NODES));
+    }
+
+    static void measure(String name, long elements, Supplier<?> build) {
+        Object result = build.get();
+        close(result);
+        result = null;
+
+        long before = usedHeap();
+        long gcCountBefore = Bench.gcCount(), gcMillisBefore = Bench.gcMillis(), allocatedBefore = Bench.allocatedBytes();
+        long start = System.nanoTime();
+        result = build.get();
+        long buildNanos = System.nanoTime() - start;
+        long allocated = Bench.allocatedBytes() - allocatedBefore;
+        long gcCount = Bench.gcCount() - gcCountBefore, gcMillis = Bench.gcMillis() - gcMillisBefore;
+
+        long retained = usedHeap() - before;
+        long fullGcMillis = fullGcMillis();
+        Reference.reachabilityFence(result);
+        close(result);
+        result = null;
+        long emptyGcMillis = fullGcMillis();
+
+        System.out.printf(Locale.ROOT, "  %-26s build %7.1f ms, allocated %7.1f MB, %3d gc %6d ms gc, "
+                        + "retained %7.1f MB (%5.1f B/element), full gc %4d ms alive vs %4d ms after%n",
+                name, buildNanos / 1e6, allocatedBefore < 0 ? Double.NaN : allocated / 1e6, gcCount, gcMillis,
+                retained / 1e6, (double) retained / elements, fullGcMillis, emptyGcMillis);
+    }
+
+    // a spilled store deletes its temp file
+    private static void close(Object result) {
+        if (result instanceof IntResultStore store) store.close();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long fullGcMillis() {
+        long before = Bench.gcMillis();
+        System.gc();
+        return Bench.gcMillis() - before;
+    }
+}
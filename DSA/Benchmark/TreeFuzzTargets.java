@@ -0,0 +1,128 @@
+package DSA.Benchmark;
+
+import DSA.ArrayBinaryTree;
+import DSA.Benchmark.DifferentialFuzzer.Target;
+import DSA.VerticalOrderTraversalOfABinaryTree;
+import DSA.VerticalOrderTraversalOfABinaryTree.TreeNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import static DSA.Benchmark.DifferentialFuzzer.compare;
+
+// DifferentialFuzzer targets for the binary tree classes in DSA, checked against plain recursion over TreeNode
+class TreeFuzzTargets {
+
+    static void addTo(List<Target> targets) {
+        // values from -3..3, so many nodes share a row and column and the value tie break decides the order
+        targets.add(new Target("VerticalOrderTraversalOfABinaryTree", 60, (random, n) -> {
+            TreeNode root = smallValuedTree(random, n);
+            String input = Arrays.toString(levelOrder(root));
+            List<List<Integer>> expected = new VerticalOrderTraversalOfABinaryTree().verticalTraversal(root);
+            String failure = compare(input + " verticalTraversalIterative", expected,
+                    VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative(root));
+            if (failure == null) failure = compare(input + " verticalTraversalParallel", expected,
+                    VerticalOrderTraversalOfABinaryTree.verticalTraversalParallel(root));
+            if (failure == null) failure = compare(input + " verticalTraversalInts", expected,
+                    VerticalOrderTraversalOfABinaryTree.verticalTraversalInts(root).toLists());
+            return failure;
+        }));
+
+        // every traversal of the array form against the object tree, and the LeetCode level order round trip
+        targets.add(new Target("ArrayBinaryTree", 60, (random, n) -> {
+            TreeNode root = smallValuedTree(random, n);
+            ArrayBinaryTree tree = ArrayBinaryTree.fromTreeNode(root);
+            List<Integer> preorder = new ArrayList<>(), inorder = new ArrayList<>();
+            preorder(root, preorder);
+            inorder(root, inorder);
+            long sum = 0;
+            for (int value : preorder) sum += value;
+            Integer[] levelOrder = levelOrder(root);
+            String input = Arrays.toString(levelOrder);
+
+            String failure = compare(input + " size", preorder.size(), tree.size());
+            if (failure == null) failure = compare(input + " sum", sum, tree.sum());
+            if (failure == null) failure = compare(input + " preorder", preorder.toString(), Arrays.toString(tree.preorder()));
+            if (failure == null) failure = compare(input + " inorder", inorder.toString(), Arrays.toString(tree.inorder()));
+            if (failure == null) failure = compare(input + " levelOrder", levels(root), tree.levelOrder());
+            if (failure == null) failure = compare(input + " verticalTraversal",
+                    new VerticalOrderTraversalOfABinaryTree().verticalTraversal(root), tree.verticalTraversal());
+            if (failure == null) {
+                ArrayBinaryTree parsed = ArrayBinaryTree.fromLevelOrder(levelOrder);
+                failure = compare(input + " fromLevelOrder preorder", preorder.toString(), Arrays.toString(parsed.preorder()));
+                if (failure == null) failure = compare(input + " fromLevelOrder inorder", inorder.toString(), Arrays.toString(parsed.inorder()));
+            }
+            return failure;
+        }));
+    }
+
+    // ---------- references ----------
+
+    // a random shape (empty now and then) with values remapped to -3..3
+    static TreeNode smallValuedTree(Random random, int n) {
+        if (random.nextInt(20) == 0) return null;
+        TreeNode root = ArrayBinaryTree.randomTree(1 + random.nextInt(20 * n), random);
+        List<TreeNode> nodes = new ArrayList<>();
+        preorderNodes(root, nodes);
+        for (TreeNode node : nodes) node.val = random.nextInt(7) - 3;
+        return root;
+    }
+
+    static void preorderNodes(TreeNode node, List<TreeNode> res) {
+        if (node == null) return;
+        res.add(node);
+        preorderNodes(node.left, res);
+        preorderNodes(node.right, res);
+    }
+
+    static void preorder(TreeNode node, List<Integer> res) {
+        if (node == null) return;
+        res.add(node.val);
+        preorder(node.left, res);
+        preorder(node.right, res);
+    }
+
+    static void inorder(TreeNode node, List<Integer> res) {
+        if (node == null) return;
+        inorder(node.left, res);
+        res.add(node.val);
+        inorder(node.right, res);
+    }
+
+    static List<List<Integer>> levels(TreeNode root) {
+        List<List<Integer>> res = new ArrayList<>();
+        addLevels(root, 0, res);
+        return res;
+    }
+
+    private static void addLevels(TreeNode node, int depth, List<List<Integer>> res) {
+        if (node == null) return;
+        if (depth == res.size()) res.add(new ArrayList<>());
+        res.get(depth).add(node.val);
+        addLevels(node.left, depth + 1, res);
+        addLevels(node.right, depth + 1, res);
+    }
+
+    // LeetCode form: BFS with null for a missing child of an existing node, trailing nulls dropped
+    static Integer[] levelOrder(TreeNode root) {
+        List<Integer> res = new ArrayList<>();
+        Queue<TreeNode> queue = new ArrayDeque<>();
+        if (root != null) {
+            res.add(root.val);
+            queue.add(root);
+        }
+        while (!queue.isEmpty()) {
+            TreeNode node = queue.poll();
+            for (TreeNode child : new TreeNode[]{node.left, node.right}) {
+                res.add(child == null ? null : child.val);
+                if (child != null) queue.add(child);
+            }
+        }
+        while (!res.isEmpty() && res.getLast() == null) res.removeLast();
+        return res.toArray(new Integer[0]);
+    }
+}
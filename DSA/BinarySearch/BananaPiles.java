@@ -0,0 +1,163 @@
+package DSA.BinarySearch;
+
+import java.util.Random;
+
+/*
+ * Piles that change over time (insert / remove / update) with EatingBananasHourly's question on top:
+ * the minimum rate r so that hours(r) = sum of ceil(pile / r) <= h.
+ *
+ * minimumRateToEatBananas recomputes hours(r) over every pile for every probe, O(n log max) per query.
+ * Here hours(r) never looks at single piles, it uses two summaries kept up to date by every change
+ * (M = the largest pile size allowed, B = sqrt(M)):
+ *
+ *  1.	r > B: piles with ceil(p / r) = k are exactly the piles in ((k - 1) * r, k * r], so
+ *          hours(r) = sum over k of k * count(piles in that range)
+ *      with counts from a Fenwick tree over the pile sizes. max / r < B ranges, O(sqrt(M) log M).
+ *  2.	r <= B: ceil(p / r) = (p + (r - p % r) % r) / r, so
+ *          hours(r) = (sum of piles + sum over s = 1..r-1 of count(p % r == s) * (r - s)) / r
+ *      with count(p % r == s) kept for every r <= B (B^2 / 2 = M / 2 counters, O(B) per change). O(r) <= O(sqrt(M)).
+ *
+ * A query is a binary search over r of such hours(r), starting at ceil(sum / h) (hours(r) >= sum / r).
+ * Memory is about 1.5 * M ints, so M is limited to MAX_PILE.
+ */
+public class BananaPiles {
+
+    public static void main(String[] args) {
+        BananaPiles piles = new BananaPiles(1 << 20);
+        for (int pile : new int[]{3, 6, 7, 11}) piles.insert(pile);
+        System.out.println("Rate for 8 hours: " + piles.minimumRate(8)); // 4
+        piles.update(11, 30);
+        System.out.println("After 11 -> 30, rate for 8 hours: " + piles.minimumRate(8)); // 7
+        piles.remove(3);
+        System.out.println("After removing 3, rate for 8 hours: " + piles.minimumRate(8));
+
+        Random random = new Random(1);
+        int n = 200_000;
+        int[] sizes = random.ints(n, 1, 1 << 20).toArray();
+        BananaPiles large = new BananaPiles(1 << 20);
+        for (int size : sizes) large.insert(size);
+        long start = System.nanoTime();
+        int queries = 1000;
+        long checksum = 0;
+        for (int q = 0; q < queries; q++) {
+            large.update(sizes[q], sizes[q] = 1 + random.nextInt(1 << 20));
+            checksum += large.minimumRate(n + random.nextInt(50 * n));
+        }
+        System.out.printf("%d piles: %d updates + queries in %.1f ms (checksum %d)%n",
+                n, queries, (System.nanoTime() - start) / 1e6, checksum);
+    }
+
+    public static final int MAX_PILE = 1 << 24;
+
+    private final int maxPile;
+    private final int smallRates;
+    // Fenwick tree of pile counts by size, 1 based
+    private final int[] counts;
+    // residues[r][s] = number of piles with size % r == s, for 1 <= r <= smallRates
+    private final int[][] residues;
+    private int size;
+    private long sum;
+
+    public BananaPiles(int maxPile) {
+        if (maxPile < 1 || maxPile > MAX_PILE) throw new IllegalArgumentException("maxPile must be between 1 and " + MAX_PILE);
+        this.maxPile = maxPile;
+        this.smallRates = (int) Math.sqrt(maxPile);
+        this.counts = new int[maxPile + 1];
+        this.residues = new int[smallRates + 1][];
+        for (int r = 1; r <= smallRates; r++) residues[r] = new int[r];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long total() {
+        return sum;
+    }
+
+    public void insert(int pile) {
+        checkPile(pile);
+        change(pile, 1);
+    }
+
+    public void remove(int pile) {
+        checkPile(pile);
+        if (count(pile) == 0) throw new IllegalArgumentException("No pile of size " + pile);
+        change(pile, -1);
+    }
+
+    // one pile changes from `from` to `to` bananas
+    public void update(int from, int to) {
+        checkPile(to);
+        remove(from);
+        change(to, 1);
+    }
+
+    private void checkPile(int pile) {
+        if (pile < 1 || pile > maxPile) throw new IllegalArgumentException("Pile size must be between 1 and " + maxPile);
+    }
+
+    private void change(int pile, int delta) {
+        for (int i = pile; i <= maxPile; i += i & -i) counts[i] += delta;
+        for (int r = 1; r <= smallRates; r++) residues[r][pile % r] += delta;
+        size += delta;
+        sum += (long) delta * pile;
+    }
+
+    // piles with size <= value
+    private int atMost(int value) {
+        int count = 0;
+        for (int i = Math.min(value, maxPile); i > 0; i -= i & -i) count += counts[i];
+        return count;
+    }
+
+    private int count(int pile) {
+        return atMost(pile) - atMost(pile - 1);
+    }
+
+    // the largest pile: the size of the size-th pile in sorted order, one descent of the Fenwick tree
+    public int max() {
+        if (size == 0) return 0;
+        int position = 0, remaining = size;
+        for (int step = Integer.highestOneBit(maxPile); step > 0; step >>= 1) {
+            if (position + step <= maxPile && counts[position + step] < remaining) {
+                position += step;
+                remaining -= counts[position];
+            }
+        }
+        return position + 1;
+    }
+
+    // sum of ceil(pile / rate) over all piles
+    public long hours(int rate) {
+        if (rate < 1) throw new IllegalArgumentException("rate must be positive");
+        if (rate <= smallRates) {
+            int[] byResidue = residues[rate];
+            long rounding = 0;
+            for (int s = 1; s < rate; s++) rounding += (long) byResidue[s] * (rate - s);
+            return (sum + rounding) / rate;
+        }
+        int largest = max();
+        long hours = 0;
+        int below = 0;
+        for (long k = 1, end = rate; end - rate < largest; k++, end += rate) {
+            int upTo = atMost((int) Math.min(end, largest));
+            hours += k * (upTo - below);
+            below = upTo;
+        }
+        return hours;
+    }
+
+    // same answer as EatingBananasHourly.minimumRateToEatBananas, -1 if even max() per hour is too slow (h < size)
+    public int minimumRate(long h) {
+        if (size == 0) return 1;
+        if (h < size) return -1;
+        int left = (int) Math.max(1, (sum + h - 1) / h), right = max();
+        while (left < right) {
+            int mid = left + (right - left) / 2;
+            if (hours(mid) <= h) right = mid;
+            else left = mid + 1;
+        }
+        return left;
+    }
+}
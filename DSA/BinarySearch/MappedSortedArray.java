@@ -0,0 +1,152 @@
+package DSA.BinarySearch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * Sorted (or rotated sorted) array of little-endian ints or longs that lives in a file and is searched
+ * directly over the memory mapping, nothing is copied into the heap.
+ *
+ * A single MappedByteBuffer is limited to 2 GB (int positions), so the file is mapped in chunks of 1 GB
+ * and every index is a long: element i lives in chunk (i * width) >> 30 at offset (i * width) & (1 GB - 1).
+ * 1 GB is a multiple of 4 and 8 so an element never crosses two chunks.
+ *
+ * The search logic is the same as in LowerBound / RotatedSortedArray, only with long indices:
+ *  - lowerBound   : first index with value >= key
+ *  - findPivot    : index of the minimum of a rotated sorted array, found once in the constructor
+ *  - searchRotated: binary search on the sorted half the key belongs to
+ */
+public class MappedSortedArray {
+
+    public enum ElementType {
+        INT(4), LONG(8);
+
+        final int width;
+
+        ElementType(int width) {
+            this.width = width;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("rotated", ".bin");
+        file.toFile().deleteOnExit();
+
+        // rotated array of 1M little-endian ints: 500000..999999, 0..499999
+        int n = 1_000_000;
+        ByteBuffer buffer = ByteBuffer.allocate(n * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < n; i++) buffer.putInt((i + n / 2) % n);
+        Files.write(file, buffer.array());
+
+        MappedSortedArray arr = MappedSortedArray.open(file, ElementType.INT);
+        System.out.println("Size: " + arr.size() + ", pivot: " + arr.pivot() + ", min: " + arr.min());
+        System.out.println("Index of 123456 is: " + arr.searchRotated(123456));
+        System.out.println("Index of 765432 is: " + arr.searchRotated(765432));
+        System.out.println("Index of -5 is: " + arr.searchRotated(-5));
+    }
+
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final MappedByteBuffer[] chunks;
+    private final ElementType type;
+    private final long size;
+    private final long pivot;
+
+    private MappedSortedArray(MappedByteBuffer[] chunks, ElementType type, long size) {
+        this.chunks = chunks;
+        this.type = type;
+        this.size = size;
+        this.pivot = findPivot();
+    }
+
+    public static MappedSortedArray open(Path file, ElementType type) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % type.width != 0) {
+                throw new IllegalArgumentException("File size " + bytes + " is not a multiple of " + type.width + " bytes");
+            }
+            int chunkCount = (int) ((bytes + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int c = 0; c < chunkCount; c++) {
+                long from = (long) c << CHUNK_BITS;
+                chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(CHUNK_SIZE, bytes - from));
+                chunks[c].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            // the mapping stays valid after the channel is closed
+            return new MappedSortedArray(chunks, type, bytes / type.width);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long get(long index) {
+        long position = index * type.width;
+        MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+        int offset = (int) (position & CHUNK_MASK);
+        return type == ElementType.INT ? chunk.getInt(offset) : chunk.getLong(offset);
+    }
+
+    // first index in [from, to) whose value is >= key, "to" if there is none (array must be sorted there)
+    public long lowerBound(long from, long to, long key) {
+        long left = from, right = to;
+        while (left < right) {
+            long mid = (left + right) >>> 1;
+            if (get(mid) < key) left = mid + 1;
+            else right = mid;
+        }
+        return left;
+    }
+
+    public long lowerBound(long key) {
+        return lowerBound(0, size, key);
+    }
+
+    // index of the minimum element, 0 if the file is not rotated
+    public long pivot() {
+        return pivot;
+    }
+
+    public long min() {
+        if (size == 0) throw new IllegalStateException("Array is empty");
+        return get(pivot);
+    }
+
+    // index of key in the rotated sorted array, -1 if it is not present
+    public long searchRotated(long key) {
+        if (size == 0) return -1;
+        long from = 0, to = size;
+        if (pivot > 0 && key >= get(0)) to = pivot;
+        else from = pivot;
+        long index = lowerBound(from, to, key);
+        return index < to && get(index) == key ? index : -1;
+    }
+
+    // same approach as RotatedSortedArray.findPivot: trim the trailing run equal to the first element,
+    // then the predicate "value < first" is monotone and a plain binary search finds the drop
+    private long findPivot() {
+        if (size <= 1) return 0;
+        long first = get(0);
+
+        long end = size - 1;
+        while (end > 0 && get(end) == first) end--;
+        if (end == 0) return 0;
+
+        long left = 1, right = end + 1;
+        while (left < right) {
+            long mid = (left + right) >>> 1;
+            if (get(mid) < first) right = mid;
+            else left = mid + 1;
+        }
+        return left == size ? 0 : left;
+    }
+}
@@ -1,5 +1,6 @@
 package DSA.BinarySearch;
 
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 
 public class MinInRotatedSortedArray {
@@ -13,21 +14,38 @@ public class MinInRotatedSortedArray {
         arr.add(1);
         arr.add(2);
         System.out.println(obj.findMin(arr));
+        System.out.println(obj.findMin(new int[]{2, 2, 2, 1}));
     }
 
     public int findMin(ArrayList<Integer> arr) {
         int n = arr.size();
         int left = 0, right = n - 1;
-        int min = arr.get(left);
         while (left < right) {
             int mid = (left + right) / 2;
-            if (arr.get(mid) > arr.get(mid + 1)) return arr.get(mid + 1);
-            if (arr.get(left) < arr.get(mid)) { // left sorted
+            if (arr.get(mid) > arr.get(right)) { // drop is to the right of mid
                 left = mid + 1;
-            } else {
+            } else if (arr.get(mid) < arr.get(right)) { // mid..right is sorted, min is mid or to its left
                 right = mid;
+            } else { // duplicates, cannot decide the side, right can be dropped as mid has the same value
+                right--;
             }
         }
-        return min;
+        return arr.get(left);
+    }
+
+    /*
+    ISSUE WITH THE OLD CODE
+    it compared arr[left] with arr[mid] and returned arr[0] when the loop ended without finding a drop,
+    so for duplicates like [2, 2, 2, 1] it kept moving right to mid and returned 2 instead of 1.
+    comparing mid with right is safe because the right end always belongs to the half that holds the min.
+     */
+
+    // primitive overloads, the pivot search also avoids the linear right-- for duplicates, see RotatedSortedArray
+    public int findMin(int[] arr) {
+        return new RotatedSortedArray(arr).min();
+    }
+
+    public int findMin(IntBuffer arr) {
+        return new RotatedSortedArray(arr).min();
     }
 }
@@ -0,0 +1,134 @@
+package DSA.BinarySearch;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/*
+ * Primitive rotated sorted array that finds the rotation pivot ONCE and then answers any number of
+ * search queries as plain binary searches on the two sorted halves.
+ *
+ *  [4, 5, 6, 7, 0, 1, 2]  -> pivot = 4 (index of the minimum)
+ *   \________/  \_____/
+ *    sorted      sorted
+ *
+ * Works on int[] (wrapped) or on any IntBuffer (heap, direct, or a view over a mapped file), so
+ * nothing is boxed like in the ArrayList<Integer> versions.
+ */
+public class RotatedSortedArray {
+
+    public static void main(String[] args) {
+        int[] nums = {7, 8, 1, 2, 3, 3, 3, 4, 5, 6};
+        RotatedSortedArray arr = new RotatedSortedArray(nums);
+        System.out.println("Pivot: " + arr.pivot() + ", min: " + arr.min());
+
+        int[] targets = {10, 3, 7, 6, 0};
+        System.out.println("Indexes of " + Arrays.toString(targets) + " are: " + Arrays.toString(arr.indexOfAll(targets)));
+
+        int[] duplicates = {2, 2, 2, 2, 2, 2, 1, 2, 2};
+        System.out.println("Min with duplicates: " + new RotatedSortedArray(duplicates).min());
+    }
+
+    private final IntBuffer data;
+    private final int n;
+    private final int pivot;
+
+    public RotatedSortedArray(int[] nums) {
+        this(IntBuffer.wrap(nums));
+    }
+
+    // the buffer is read from its current position to its limit, it is not copied
+    public RotatedSortedArray(IntBuffer buffer) {
+        this.data = buffer.slice();
+        this.n = data.remaining();
+        this.pivot = findPivot(data);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // index of the minimum element, 0 if the array is not rotated
+    public int pivot() {
+        return pivot;
+    }
+
+    public int min() {
+        if (n == 0) throw new IllegalStateException("Array is empty");
+        return data.get(pivot);
+    }
+
+    public boolean contains(int target) {
+        return indexOf(target) >= 0;
+    }
+
+    // index of the first occurrence of target inside the sorted half it belongs to, -1 if not present
+    public int indexOf(int target) {
+        if (n == 0) return -1;
+        // every element before the pivot is >= data[0], every element from the pivot onwards is <= data[0]
+        if (pivot > 0 && target >= data.get(0)) {
+            return binarySearch(0, pivot, target);
+        }
+        return binarySearch(pivot, n, target);
+    }
+
+    public int[] indexOfAll(int[] targets) {
+        int[] res = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            res[i] = indexOf(targets[i]);
+        }
+        return res;
+    }
+
+    public boolean[] containsAll(int[] targets) {
+        boolean[] res = new boolean[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            res[i] = indexOf(targets[i]) >= 0;
+        }
+        return res;
+    }
+
+    // lower bound on the half-open range [from, to), then check if it is really the target
+    private int binarySearch(int from, int to, int target) {
+        int left = from, right = to;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (data.get(mid) < target) left = mid + 1;
+            else right = mid;
+        }
+        return left < to && data.get(left) == target ? left : -1;
+    }
+
+    /*
+    Finding the pivot when duplicates are allowed:
+
+    The classic trick "if nums[left] == nums[mid] == nums[right] then left++, right--" makes every probe
+    linear for inputs like [2,2,2,2,1,2,2]. Instead, the ambiguity is removed once up front:
+
+    1. Only the trailing run of values equal to nums[0] makes the two halves indistinguishable, so trim it
+       from the end: end = last index with nums[end] != nums[0]. (this is the only part that can be linear,
+       and it only costs the length of that run, once per array, never per query)
+    2. On [0..end] the predicate "nums[i] < nums[0]" is monotone: false on the left sorted half,
+       true on the right sorted half. So a plain binary search finds the first index where it is true.
+    3. If no such index exists, [0..end] is sorted and the trimmed run (if any) is the rotated part.
+
+    The result is: [0, pivot) and [pivot, n) are both sorted, and each query is a clean O(log n) search.
+     */
+    static int findPivot(IntBuffer nums) {
+        int n = nums.remaining();
+        if (n <= 1) return 0;
+        int first = nums.get(0);
+
+        int end = n - 1;
+        while (end > 0 && nums.get(end) == first) end--;
+        if (end == 0) return 0; // all elements are equal
+
+        int left = 1, right = end + 1;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (nums.get(mid) < first) right = mid;
+            else left = mid + 1;
+        }
+        // left == end + 1 means [0..end] is sorted, so the trimmed run is the second half (or nothing was rotated)
+        return left == n ? 0 : left;
+    }
+}
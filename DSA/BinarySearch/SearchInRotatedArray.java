@@ -1,6 +1,8 @@
 package DSA.BinarySearch;
 
+import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class SearchInRotatedArray {
@@ -13,6 +15,24 @@ public class SearchInRotatedArray {
         int target = 10;
         boolean result = sra.searchInARotatedSortedArrayII(arr, target);
         System.out.println("Index of " + target + " is: " + result);
+
+        int[] nums = {7, 8, 1, 2, 3, 3, 3, 4, 5, 6};
+        int[] targets = {10, 3, 8, 6};
+        System.out.println("Found " + Arrays.toString(targets) + ": " + Arrays.toString(sra.searchInARotatedSortedArrayII(nums, targets)));
+    }
+
+    // primitive overloads, for many queries against the same array keep a RotatedSortedArray around instead
+    public boolean searchInARotatedSortedArrayII(int[] nums, int target) {
+        return new RotatedSortedArray(nums).contains(target);
+    }
+
+    public boolean searchInARotatedSortedArrayII(IntBuffer nums, int target) {
+        return new RotatedSortedArray(nums).contains(target);
+    }
+
+    // batched queries, pivot is found once and every target is two binary searches at most
+    public boolean[] searchInARotatedSortedArrayII(int[] nums, int[] targets) {
+        return new RotatedSortedArray(nums).containsAll(targets);
     }
 
     public boolean searchInARotatedSortedArrayII(ArrayList<Integer> nums, int target) {
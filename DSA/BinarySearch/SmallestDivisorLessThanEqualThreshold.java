@@ -9,18 +9,22 @@ public class SmallestDivisorLessThanEqualThreshold {
         int[] nums = {5,10,15,20,25};
         int threshold = 15;
         System.out.println(obj.smallestDivisor(nums, threshold));
+        System.out.println(Arrays.toString(obj.smallestDivisors(nums, new int[]{4, 5, 6, 7, 15, 75, 100})));
     }
 
+    // -1 if no divisor works: every number contributes at least 1, so the threshold must be >= nums.length
     public int smallestDivisor(int[] nums, int threshold) {
+        if (threshold < nums.length) return -1;
         int max = Arrays.stream(nums).max().getAsInt();
         int left = 1, right = max;
         while(left<=right){
             int mid = left + (right-left)/2;
-            int sum = sumWithDivisor(nums, mid);
+            long sum = sumWithDivisor(nums, mid);
             /* incorrect condition because there can be scenarios when two numbers can have same sum, and we need to choose the lowest number
             if( sum == threshold){
                 return mid;
-            } else */ if (sum<threshold) {
+            } else */ if (sum<=threshold) {
+                // <= and not <: a sum equal to the threshold is allowed ("less than or equal")
                 right =mid-1;
                 // here it is mid -1 and not mid bcoz ofc mid can be the answer, but if I do right = mid, then it will lead to infinite loop when left = mid
                 // e.g left = 3, right =3, mid =3, then right = mid will lead to infinite loop
@@ -33,13 +37,160 @@ public class SmallestDivisorLessThanEqualThreshold {
         return left;
     }
 
-    private int sumWithDivisor(int[] nums, int divisor){
-        int sum = 0;
+    // long: n numbers of up to 2^31 each overflow an int sum (and the double ceil lost precision for big numbers)
+    private long sumWithDivisor(int[] nums, int divisor){
+        long sum = 0;
         for(int num : nums){
-            sum += Math.ceil((double)num/divisor);
+            sum += (num - 1) / divisor + 1;
         }
         return sum;
     }
 
+    /*
+    Many thresholds against the same nums: answers[i] = smallestDivisor(nums, thresholds[i]).
+    Calling smallestDivisor for each costs q * n * log(max); DivisorSums preprocesses nums once and answers
+    each threshold in O(log max) probes of a cheaper sum (see there).
+     */
+    public int[] smallestDivisors(int[] nums, int[] thresholds) {
+        return new DivisorSums(nums, thresholds.length).smallestDivisors(thresholds);
+    }
+
+    /*
+    f(d) = sum of ceil(num / d) only depends on how many numbers fall in each block ((k - 1) * d, k * d]:
+        f(d) = sum over k of k * (count(<= k * d) - count(<= (k - 1) * d))
+    which is max / d blocks instead of n numbers, and f is non-increasing in d, so the answer to a threshold t
+    is the first d with f(d) <= t.
+
+     1.	table (max up to MAX_TABLE and enough queries to pay for it): count(<= v) as a prefix array, then f(d)
+        for EVERY d in sum of max / d = O(max log max) (harmonic series), a query is one binary search over f.
+     2.	otherwise: sorted nums, f(d) by blocks (count(<= x) = binary search, O(max / d * log n)) or directly
+        (O(n)), whichever is cheaper for that d: small d (the expensive side of the search) sum directly,
+        large d in a few blocks. Thresholds are answered largest first, so each answer is a lower bound
+        for the next search (a smaller threshold never needs a smaller divisor).
+     */
+    public static class DivisorSums {
+        static final int MAX_TABLE = 1 << 22;
+
+        private final int n;
+        private final int max;
+        private final long total;
+        // table mode: sums[d] = f(d) for 1 <= d <= max
+        private final long[] sums;
+        // sorted mode
+        private final int[] sorted;
 
+        public DivisorSums(int[] nums) {
+            this(nums, Integer.MAX_VALUE);
+        }
+
+        // expectedQueries decides whether the O(max log max) table pays off against per query searches
+        public DivisorSums(int[] nums, int expectedQueries) {
+            n = nums.length;
+            if (n == 0) throw new IllegalArgumentException("nums must not be empty");
+            int largest = 0;
+            long sum = 0;
+            for (int num : nums) {
+                if (num <= 0) throw new IllegalArgumentException("nums must be positive");
+                largest = Math.max(largest, num);
+                sum += num;
+            }
+            max = largest;
+            total = sum;
+            // table: ~max * ln(max) steps once, searches: ~n * log(max) per query; a table step costs more than a
+            // plain division, measured break even is around max * 8 = queries * n
+            if (max <= MAX_TABLE && 8.0 * max <= (double) expectedQueries * n) {
+                sums = table(nums);
+                sorted = null;
+            } else {
+                sums = null;
+                sorted = nums.clone();
+                Arrays.sort(sorted);
+            }
+        }
+
+        private long[] table(int[] nums) {
+            int[] atMost = new int[max + 1];
+            for (int num : nums) atMost[num]++;
+            for (int v = 1; v <= max; v++) atMost[v] += atMost[v - 1];
+            long[] f = new long[max + 1];
+            for (int d = 1; d <= max; d++) {
+                long sum = 0;
+                for (long k = 1, low = 0; low < max; k++, low += d) {
+                    sum += k * (atMost[(int) Math.min(max, low + d)] - atMost[(int) low]);
+                }
+                f[d] = sum;
+            }
+            return f;
+        }
+
+        // f(d) = sum of ceil(num / d)
+        public long sum(int divisor) {
+            if (divisor <= 0) throw new IllegalArgumentException("divisor must be positive");
+            if (divisor >= max) return n;
+            if (sums != null) return sums[divisor];
+            long blocks = (max + (long) divisor - 1) / divisor;
+            long sum = 0;
+            if (blocks * (32 - Integer.numberOfLeadingZeros(n)) < n) {
+                int previous = 0;
+                for (long k = 1; k <= blocks; k++) {
+                    int end = upperBound(sorted, k * divisor);
+                    sum += k * (end - previous);
+                    previous = end;
+                }
+            } else {
+                for (int num : sorted) sum += (num - 1) / divisor + 1;
+            }
+            return sum;
+        }
+
+        public int smallestDivisor(int threshold) {
+            return smallestDivisor(threshold, 1);
+        }
+
+        // first d >= from with f(d) <= threshold, -1 if there is none
+        private int smallestDivisor(long threshold, int from) {
+            if (threshold < n) return -1;
+            if (threshold >= total) return 1;
+            int left = from, right = max;
+            while (left < right) {
+                int mid = left + (right - left) / 2;
+                if (sum(mid) <= threshold) right = mid;
+                else left = mid + 1;
+            }
+            return left;
+        }
+
+        public int[] smallestDivisors(int[] thresholds) {
+            int q = thresholds.length;
+            // (threshold, index) packed, sorted, walked from the largest threshold down
+            long[] order = new long[q];
+            for (int i = 0; i < q; i++) order[i] = (long) thresholds[i] << 32 | i;
+            Arrays.sort(order);
+            int[] answers = new int[q];
+            int lowerBound = 1;
+            for (int i = q - 1; i >= 0; i--) {
+                int threshold = (int) (order[i] >> 32), index = (int) order[i];
+                int answer = smallestDivisor(threshold, lowerBound);
+                answers[index] = answer;
+                if (answer < 0) {
+                    // every smaller threshold is infeasible too
+                    for (int j = i - 1; j >= 0; j--) answers[(int) order[j]] = -1;
+                    break;
+                }
+                lowerBound = answer;
+            }
+            return answers;
+        }
+
+        // number of values <= key
+        private static int upperBound(int[] sorted, long key) {
+            int low = 0, high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= key) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package DSA.Cache;
+
+import DSA.GreedyAlgorithms.FractionalKnapsackProblem;
+import DSA.Recursion.NQueen;
+import DSA.Recursion.SearchBudget;
+import DSA.Recursion.SudokuSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Caching layer in front of SudokuSolver.solve, NQueen.solveNQueens and FractionalKnapsackProblem.fractionalKnapsack.
+ *
+ * The trick is to CANONICALIZE the input first, so that inputs which are different but equivalent
+ * share one cache entry:
+ *
+ *  •	Sudoku: the digits are only labels, swapping all 3s with all 7s gives an equivalent puzzle.
+ *      So the digits are relabeled in order of first appearance (row by row): the first digit seen becomes 1,
+ *      the next new one becomes 2 ... The canonical puzzle is solved / cached, and the answer is mapped back
+ *      with the inverse relabeling.
+ *  •	Knapsack: the order of the items does not matter, so the (weight, value) pairs are sorted.
+ *  •	N-Queens: the input is just n.
+ *
+ * Results are stored compactly: a Sudoku solution as 81 bytes, every N-Queens solution as n bytes
+ * (the column of the queen in each row), a knapsack answer as one Double.
+ * Each solver has its own LruCache bounded by estimated bytes, stats() exposes hits / misses / evictions.
+ *
+ * If a puzzle has more than one solution, the cached one is valid but may differ from what a direct solve returns,
+ * because the solver tries digits in label order.
+ */
+public class CachedSolvers {
+
+    public static void main(String[] args) {
+        CachedSolvers solvers = new CachedSolvers(1 << 20, 16 << 20, 1 << 20);
+        char[][] board = {
+                "53..7....".toCharArray(), "6..195...".toCharArray(), ".98....6.".toCharArray(),
+                "8...6...3".toCharArray(), "4..8.3..1".toCharArray(), "7...2...6".toCharArray(),
+                ".6....28.".toCharArray(), "...419..5".toCharArray(), "....8..79".toCharArray()
+        };
+        // the same puzzle with the digits 5 and 9 swapped, it maps to the same canonical board
+        char[][] relabeled = new char[9][9];
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                char c = board[i][j];
+                relabeled[i][j] = c == '5' ? '9' : c == '9' ? '5' : c;
+            }
+        }
+        solvers.solveSudoku(board);
+        solvers.solveSudoku(relabeled);
+        System.out.println("Relabeled solution row 0: " + new String(relabeled[0]));
+
+        System.out.println("8-Queens: " + solvers.solveNQueens(8).size() + ", again: " + solvers.solveNQueens(8).size());
+        System.out.println("Knapsack: " + solvers.fractionalKnapsack(new int[]{2, 3, 5}, new int[]{5, 10, 15}, 5)
+                + ", shuffled: " + solvers.fractionalKnapsack(new int[]{5, 2, 3}, new int[]{15, 5, 10}, 5));
+
+        System.out.println("Sudoku   " + solvers.sudokuStats());
+        System.out.println("NQueen   " + solvers.nQueenStats());
+        System.out.println("Knapsack " + solvers.knapsackStats());
+    }
+
+    private static final byte[] UNSOLVABLE = new byte[0];
+
+    private final LruCache<String, byte[]> sudoku;
+    private final LruCache<Integer, byte[]> nQueens;
+    private final LruCache<KnapsackKey, Double> knapsack;
+
+    public CachedSolvers(long sudokuBytes, long nQueensBytes, long knapsackBytes) {
+        this.sudoku = new LruCache<>(sudokuBytes, key -> 24 + 16 + key.length(), value -> 16 + value.length);
+        this.nQueens = new LruCache<>(nQueensBytes, key -> 16, value -> 16 + value.length);
+        this.knapsack = new LruCache<>(knapsackBytes, key -> 32 + 8L * key.items.length, value -> 16);
+    }
+
+    // same contract as SudokuSolver.solve: fills the board in place and returns true if it could be solved
+    public boolean solveSudoku(char[][] board) {
+        return solveSudoku(board, SearchBudget.unlimited()).value();
+    }
+
+    // truncated results are returned but never cached, the board keeps its givens then
+    public SearchBudget.Result<Boolean> solveSudoku(char[][] board, SearchBudget budget) {
+        if (board.length != 9) throw new IllegalArgumentException("Board must be 9x9");
+        int[] toCanonical = new int[10];
+        int next = 1;
+        StringBuilder key = new StringBuilder(81);
+        for (char[] row : board) {
+            if (row.length != 9) throw new IllegalArgumentException("Board must be 9x9");
+            for (char c : row) {
+                if (c == '.') {
+                    key.append('.');
+                    continue;
+                }
+                int digit = c - '0';
+                if (digit < 1 || digit > 9) throw new IllegalArgumentException("Unexpected character " + c);
+                if (toCanonical[digit] == 0) toCanonical[digit] = next++;
+                key.append((char) ('0' + toCanonical[digit]));
+            }
+        }
+        // digits that are not on the board get the remaining labels, so the relabeling is a full permutation
+        for (int digit = 1; digit <= 9; digit++) {
+            if (toCanonical[digit] == 0) toCanonical[digit] = next++;
+        }
+        char[] fromCanonical = new char[10];
+        for (int digit = 1; digit <= 9; digit++) fromCanonical[toCanonical[digit]] = (char) ('0' + digit);
+
+        // a truncated solve computes null, which getOrCompute does not cache
+        byte[] solution = sudoku.getOrCompute(key.toString(), canonical -> solveCanonicalSudoku(canonical, budget));
+        if (solution == null) return new SearchBudget.Result<>(false, true);
+        if (solution == UNSOLVABLE) return new SearchBudget.Result<>(false, false);
+        for (int i = 0; i < 81; i++) board[i / 9][i % 9] = fromCanonical[solution[i]];
+        return new SearchBudget.Result<>(true, false);
+    }
+
+    // null if the budget ran out before the search finished
+    private static byte[] solveCanonicalSudoku(String key, SearchBudget budget) {
+        char[][] board = new char[9][];
+        for (int i = 0; i < 9; i++) board[i] = key.substring(i * 9, i * 9 + 9).toCharArray();
+        SearchBudget.Result<Boolean> solved = new SudokuSolver().solve(board, budget);
+        if (solved.truncated()) return null;
+        if (!solved.value()) return UNSOLVABLE;
+        byte[] solution = new byte[81];
+        for (int i = 0; i < 81; i++) solution[i] = (byte) (board[i / 9][i % 9] - '0');
+        return solution;
+    }
+
+    public List<List<String>> solveNQueens(int n) {
+        return solveNQueens(n, SearchBudget.unlimited()).value();
+    }
+
+    // truncated results are returned but never cached
+    public SearchBudget.Result<List<List<String>>> solveNQueens(int n, SearchBudget budget) {
+        byte[] cached = nQueens.get(n);
+        if (cached != null) return new SearchBudget.Result<>(render(cached, n), false);
+
+        SearchBudget.Result<List<List<String>>> result = new NQueen().solveNQueens(n, budget);
+        if (!result.truncated()) {
+            List<List<String>> boards = result.value();
+            byte[] columns = new byte[boards.size() * n];
+            for (int s = 0; s < boards.size(); s++) {
+                for (int row = 0; row < n; row++) columns[s * n + row] = (byte) boards.get(s).get(row).indexOf('Q');
+            }
+            nQueens.put(n, columns);
+        }
+        return result;
+    }
+
+    // only n different row strings exist, one per queen column, so all the boards share them
+    private static List<List<String>> render(byte[] columns, int n) {
+        String[] rows = new String[n];
+        for (int column = 0; column < n; column++) {
+            char[] row = new char[n];
+            Arrays.fill(row, '.');
+            row[column] = 'Q';
+            rows[column] = new String(row);
+        }
+        int count = n == 0 ? 0 : columns.length / n;
+        List<List<String>> res = new ArrayList<>(count);
+        for (int s = 0; s < count; s++) {
+            List<String> board = new ArrayList<>(n);
+            for (int row = 0; row < n; row++) board.add(rows[columns[s * n + row]]);
+            res.add(board);
+        }
+        return res;
+    }
+
+    public double fractionalKnapsack(int[] weights, int[] values, int capacity) {
+        long[] items = new long[weights.length];
+        for (int i = 0; i < items.length; i++) items[i] = ((long) weights[i] << 32) | (values[i] & 0xFFFFFFFFL);
+        Arrays.sort(items);
+        return knapsack.getOrCompute(new KnapsackKey(items, capacity), key -> {
+            int[] sortedWeights = new int[key.items.length], sortedValues = new int[key.items.length];
+            for (int i = 0; i < key.items.length; i++) {
+                sortedWeights[i] = (int) (key.items[i] >> 32);
+                sortedValues[i] = (int) key.items[i];
+            }
+            return FractionalKnapsackProblem.fractionalKnapsack(sortedWeights, sortedValues, key.capacity);
+        });
+    }
+
+    public LruCache.Stats sudokuStats() {
+        return sudoku.stats();
+    }
+
+    public LruCache.Stats nQueenStats() {
+        return nQueens.stats();
+    }
+
+    public LruCache.Stats knapsackStats() {
+        return knapsack.stats();
+    }
+
+    // sorted (weight << 32 | value) pairs + capacity
+    static final class KnapsackKey {
+        final long[] items;
+        final int capacity;
+        private final int hash;
+
+        KnapsackKey(long[] items, int capacity) {
+            this.items = items;
+            this.capacity = capacity;
+            this.hash = 31 * Arrays.hashCode(items) + capacity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof KnapsackKey other && capacity == other.capacity && Arrays.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package DSA.Cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/*
+ * Size bounded LRU cache with hit / miss / eviction counters.
+ *
+ * LinkedHashMap with accessOrder = true keeps the entries ordered from least to most recently used,
+ * so eviction is just removing from the head until the cache fits again.
+ *
+ * The bound is a total WEIGHT (e.g. estimated bytes) rather than an entry count, because the cached values
+ * differ a lot in size: a Sudoku solution is 81 bytes, all 14-queens solutions are ~5 MB.
+ * Use weigher = v -> 1 to get a plain "max entries" cache.
+ *
+ * All methods are synchronized. getOrCompute() runs the computation OUTSIDE the lock, so a slow solve never
+ * blocks readers of other keys; two threads missing the same key at the same time may both compute it.
+ */
+public class LruCache<K, V> {
+
+    public static class Stats {
+        public final long hits, misses, evictions, size, weight, maxWeight;
+
+        Stats(long hits, long misses, long evictions, long size, long weight, long maxWeight) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.weight = weight;
+            this.maxWeight = maxWeight;
+        }
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    ", hitRate=" + String.format("%.3f", hitRate()) +
+                    ", size=" + size +
+                    ", weight=" + weight + "/" + maxWeight +
+                    '}';
+        }
+    }
+
+    private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final ToLongFunction<? super K> keyWeigher;
+    private final ToLongFunction<? super V> valueWeigher;
+    private final long maxWeight;
+    private long weight, hits, misses, evictions;
+
+    public LruCache(long maxWeight, ToLongFunction<? super K> keyWeigher, ToLongFunction<? super V> valueWeigher) {
+        if (maxWeight <= 0) throw new IllegalArgumentException("maxWeight must be positive");
+        this.maxWeight = maxWeight;
+        this.keyWeigher = keyWeigher;
+        this.valueWeigher = valueWeigher;
+    }
+
+    public synchronized V get(K key) {
+        V value = map.get(key);
+        if (value == null) misses++;
+        else hits++;
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long entryWeight = weigh(key, value);
+        V previous = map.remove(key);
+        if (previous != null) weight -= weigh(key, previous);
+        // an entry bigger than the whole cache would only evict everything else
+        if (entryWeight > maxWeight) return;
+        map.put(key, value);
+        weight += entryWeight;
+
+        Iterator<Map.Entry<K, V>> eldest = map.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            Map.Entry<K, V> entry = eldest.next();
+            weight -= weigh(entry.getKey(), entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public V getOrCompute(K key, Function<? super K, ? extends V> compute) {
+        V value = get(key);
+        if (value != null) return value;
+        value = compute.apply(key);
+        if (value != null) put(key, value);
+        return value;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, map.size(), weight, maxWeight);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        weight = 0;
+    }
+
+    private long weigh(K key, V value) {
+        return keyWeigher.applyAsLong(key) + valueWeigher.applyAsLong(value);
+    }
+}
@@ -11,7 +11,7 @@ public class AssignCookies {
 
     }
 
-    private static int maxNumOfStudentWithCookies(int[] students, int[] cookies) {
+    public static int maxNumOfStudentWithCookies(int[] students, int[] cookies) {
         int maxStudents = 0;
         Arrays.sort(students);
         Arrays.sort(cookies);
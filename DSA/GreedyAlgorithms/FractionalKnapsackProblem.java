@@ -12,21 +12,20 @@ public class FractionalKnapsackProblem {
         System.out.println("Maximum profit from fractional knapsack: " + maxProfit);
     }
 
-    private static double fractionalKnapsack(int[] weights, int[] values, int capacity) {
+    public static double fractionalKnapsack(int[] weights, int[] values, int capacity) {
         int n = weights.length;
         ItemValue[] itemValues = new ItemValue[n];
         for(int i=0;i<n;i++){
             itemValues[i] = new ItemValue(weights[i], values[i]);
         }
         Arrays.sort(itemValues, (a, b) -> Double.compare((double) b.value / b.weight, (double) a.value / a.weight));
-        System.out.println(Arrays.toString(itemValues));
         int currentCapacity = 0;
         int index=0;
         double result=0;
         while(currentCapacity<capacity && index<n)
         {
             int capacityUsed = Math.min(itemValues[index].weight, capacity-currentCapacity);
-            result+= (double) (capacityUsed * itemValues[index].value) /itemValues[index].weight;
+            result+= (double) capacityUsed * itemValues[index].value /itemValues[index].weight; // int product overflowed for big items
             currentCapacity+=capacityUsed;
             index++;
         }
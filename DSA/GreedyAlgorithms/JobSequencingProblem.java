@@ -28,7 +28,7 @@ public class JobSequencingProblem {
         System.out.println("Maximum profit from job scheduling: " + maxProfit);
     }
 
-    private static int jobScheduling(int[][] jobs) {
+    public static int jobScheduling(int[][] jobs) {
 
         List<JobDetails> jobDetailsList = new ArrayList<>();
         int maxDeadline = 0;
@@ -45,19 +45,16 @@ public class JobSequencingProblem {
 
         int profit=0;
         for(JobDetails jobDetails : jobDetailsList){
-            System.out.println("slots--"+ Arrays.toString(slots));
             int currentDeadline = jobDetails.deadline;
             while( currentDeadline >0 && slots[currentDeadline] == 0 ){
                 currentDeadline--;
-                System.out.println("in while --"+ jobDetails);
             }
+            // no free slot left before this deadline: skip the job, a later (less profitable) job
+            // with a longer deadline can still fit
             if(currentDeadline >0 && slots[currentDeadline] ==-1){
                 profit+=jobDetails.profit;
                 slots[currentDeadline] = 0;
-                System.out.println("in if --"+ jobDetails);
             }
-            else
-                return profit;
 
         }
 
@@ -0,0 +1,181 @@
+package DSA.GreedyAlgorithms;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * JobSequencingProblem where a job needs `duration` time units instead of one slot.
+ * Time units are 1..T (T = largest deadline), a job may run in any free units up to its deadline (preemptive:
+ * it does not need one contiguous block, a batch job can be paused and resumed).
+ *
+ * Same greedy as JobSequencingProblem.jobScheduling:
+ *  1.	jobs by profit, highest first
+ *  2.	a job fits if at least `duration` units are still free in 1..deadline, otherwise it is rejected
+ *  3.	it takes the LATEST `duration` free units before its deadline, so the early units stay free for
+ *      jobs with short deadlines that come later
+ * With all durations 1 this is exactly jobScheduling (and optimal). With durations the problem contains knapsack,
+ * so no greedy is optimal, this one keeps the simple "most profitable first" rule.
+ *
+ * jobScheduling walks slot by slot back from the deadline, O(T) per job in the worst case. Here the free units are
+ * bits in long words (1 = free) with a segment tree of free counts per word on top:
+ *  •	free units in 1..deadline:           prefix sum down the tree, O(log T)      -> rejecting is O(log T)
+ *  •	first unit of the latest d free ones: the (free - d + 1)-th free unit, one descent, O(log T)
+ *  •	taking them:                         clear every free bit from there to the deadline, the recursion
+ *                                           skips subtrees without free units, so a word is emptied once
+ * Millions of jobs over T = 10^7 need 1.25 MB of bits and a 1 MB tree; the jobs are sorted as packed longs
+ * (profit, index) with Arrays.parallelSort instead of as objects.
+ */
+public class JobSequencingWithDurations {
+
+    public static void main(String[] args) {
+        // id, deadline, profit, duration
+        int[][] jobs = {
+                {1, 4, 100, 3},
+                {2, 2, 90, 1},
+                {3, 4, 80, 1},
+                {4, 6, 70, 2}
+        };
+        System.out.println("Maximum profit with durations: " + jobScheduling(jobs)); // 100 + 90 + 70 = 260, job 3 finds no free unit left
+
+        int n = 2_000_000, horizon = 10_000_000;
+        Random random = new Random(1);
+        int[] deadlines = new int[n], durations = new int[n], profits = new int[n];
+        for (int i = 0; i < n; i++) {
+            deadlines[i] = 1 + random.nextInt(horizon);
+            durations[i] = 1 + random.nextInt(20);
+            profits[i] = random.nextInt(1_000_000);
+        }
+        long start = System.nanoTime();
+        Schedule schedule = schedule(deadlines, durations, profits);
+        System.out.printf("%d jobs over %d units: %d scheduled, profit %d, %.0f ms%n",
+                n, horizon, schedule.scheduled, schedule.profit, (System.nanoTime() - start) / 1e6);
+    }
+
+    public static class Schedule {
+        public final long profit;
+        public final int scheduled;
+        // accepted[i] = job i got its units
+        public final boolean[] accepted;
+
+        Schedule(long profit, int scheduled, boolean[] accepted) {
+            this.profit = profit;
+            this.scheduled = scheduled;
+            this.accepted = accepted;
+        }
+    }
+
+    // jobs as {id, deadline, profit, duration}, the JobSequencingProblem format plus the duration
+    public static long jobScheduling(int[][] jobs) {
+        int[] deadlines = new int[jobs.length], durations = new int[jobs.length], profits = new int[jobs.length];
+        for (int i = 0; i < jobs.length; i++) {
+            deadlines[i] = jobs[i][1];
+            profits[i] = jobs[i][2];
+            durations[i] = jobs[i][3];
+        }
+        return schedule(deadlines, durations, profits).profit;
+    }
+
+    public static Schedule schedule(int[] deadlines, int[] durations, int[] profits) {
+        int n = deadlines.length;
+        if (durations.length != n || profits.length != n) throw new IllegalArgumentException("Arrays must have the same length");
+        int horizon = 0;
+        for (int i = 0; i < n; i++) {
+            if (durations[i] < 1) throw new IllegalArgumentException("Duration of job " + i + " must be positive");
+            if (profits[i] < 0) throw new IllegalArgumentException("Profit of job " + i + " must not be negative");
+            horizon = Math.max(horizon, deadlines[i]);
+        }
+
+        // profit descending, then index: (MAX - profit) in the high half, the index in the low half
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) order[i] = (long) (Integer.MAX_VALUE - profits[i]) << 32 | i;
+        Arrays.parallelSort(order);
+
+        FreeUnits free = new FreeUnits(horizon);
+        boolean[] accepted = new boolean[n];
+        long profit = 0;
+        int scheduled = 0;
+        for (long key : order) {
+            int job = (int) key;
+            if (free.take(deadlines[job], durations[job])) {
+                accepted[job] = true;
+                profit += profits[job];
+                scheduled++;
+            }
+        }
+        return new Schedule(profit, scheduled, accepted);
+    }
+
+    // time units 1..horizon, unit t is bit (t - 1) % 64 of word (t - 1) / 64
+    static final class FreeUnits {
+        private final long[] words;
+        // tree[leaves + w] = free units in word w, tree[i] = tree[2i] + tree[2i + 1]
+        private final int[] tree;
+        private final int leaves;
+
+        FreeUnits(int horizon) {
+            int wordCount = Math.max(1, (horizon + 63) >>> 6);
+            words = new long[wordCount];
+            Arrays.fill(words, -1L);
+            if ((horizon & 63) != 0) words[wordCount - 1] = (1L << (horizon & 63)) - 1;
+            if (horizon == 0) words[0] = 0;
+            leaves = Integer.highestOneBit(wordCount) == wordCount ? wordCount : Integer.highestOneBit(wordCount) << 1;
+            tree = new int[2 * leaves];
+            for (int w = 0; w < wordCount; w++) tree[leaves + w] = Long.bitCount(words[w]);
+            for (int i = leaves - 1; i > 0; i--) tree[i] = tree[2 * i] + tree[2 * i + 1];
+        }
+
+        // takes the latest `duration` free units in 1..deadline, false (and nothing taken) if there are not enough
+        boolean take(int deadline, int duration) {
+            if (deadline < duration) return false;
+            int available = freeUpTo(deadline);
+            if (available < duration) return false;
+            int first = kthFree(available - duration + 1);
+            clear(1, 0, leaves - 1, first - 1, deadline - 1);
+            return true;
+        }
+
+        // free units in 1..t
+        int freeUpTo(int t) {
+            int word = (t - 1) >>> 6;
+            // bits 0 .. (t - 1) % 64 of the last word
+            int count = Long.bitCount(words[word] & (-1L >>> (63 - ((t - 1) & 63))));
+            // whole words before it: the left siblings on the way up from its leaf
+            for (int node = leaves + word; node > 1; node >>>= 1) {
+                if ((node & 1) == 1) count += tree[node - 1];
+            }
+            return count;
+        }
+
+        // the unit (1 based) holding the k-th free unit, k >= 1 and at most the number of free units
+        int kthFree(int k) {
+            int node = 1;
+            while (node < leaves) {
+                node <<= 1;
+                if (tree[node] < k) {
+                    k -= tree[node];
+                    node++;
+                }
+            }
+            long word = words[node - leaves];
+            for (int i = 1; i < k; i++) word &= word - 1;
+            return ((node - leaves) << 6) + Long.numberOfTrailingZeros(word) + 1;
+        }
+
+        // marks bits from..to (0 based, inclusive) as taken, node covers words nodeFrom..nodeTo
+        private void clear(int node, int nodeFrom, int nodeTo, int from, int to) {
+            if (tree[node] == 0 || nodeTo < from >>> 6 || nodeFrom > to >>> 6) return;
+            if (nodeFrom == nodeTo) {
+                long mask = -1L;
+                if (nodeFrom == from >>> 6) mask &= -1L << (from & 63);
+                if (nodeFrom == to >>> 6) mask &= -1L >>> (63 - (to & 63));
+                words[nodeFrom] &= ~mask;
+                tree[node] = Long.bitCount(words[nodeFrom]);
+                return;
+            }
+            int middle = (nodeFrom + nodeTo) >>> 1;
+            clear(2 * node, nodeFrom, middle, from, to);
+            clear(2 * node + 1, middle + 1, nodeTo, from, to);
+            tree[node] = tree[2 * node] + tree[2 * node + 1];
+        }
+    }
+}
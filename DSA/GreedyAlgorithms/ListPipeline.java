@@ -0,0 +1,286 @@
+package DSA.GreedyAlgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/*
+ * Lazy filter / map view over a List.
+ *
+ * Nothing runs until a terminal operation (toList, count, sum, toArray ...). Until then every filter / map
+ * only wraps the previous stages, and at the end all of them are fused into ONE sink chain:
+ *
+ *      source.get(i) -> filter -> map -> map -> result
+ *
+ * so every element goes through all the stages in a single pass and no intermediate list is built
+ * (a chain of list.stream().map(..).toList() calls would materialize one list per step).
+ *
+ * mapToInt / mapToLong switch to primitive consumers, so int and long fields are never boxed.
+ *
+ * When the source is a RandomAccess list with at least PARALLEL_THRESHOLD elements, it is cut into chunks,
+ * every chunk runs the same fused chain into its own accumulator on the common fork-join pool,
+ * and the chunk results are joined in order, so the output is the same as the sequential run.
+ */
+public class ListPipeline<T> {
+
+    public static void main(String[] args) {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 5_000_000; i++) numbers.add(i);
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            List<String> streamResult = numbers.stream().filter(x -> x % 3 == 0).map(x -> x * 2).map(String::valueOf).toList();
+            long streamTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<String> pipelineResult = ListPipeline.of(numbers).filter(x -> x % 3 == 0).map(x -> x * 2).map(String::valueOf).toList();
+            long pipelineTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long streamSum = numbers.stream().mapToInt(Integer::intValue).filter(x -> x % 3 == 0).asLongStream().sum();
+            long streamSumTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long pipelineSum = ListPipeline.of(numbers).mapToInt(Integer::intValue).filter(x -> x % 3 == 0).sum();
+            long pipelineSumTime = System.nanoTime() - start;
+
+            System.out.printf("toList: Stream %d ms, ListPipeline %d ms (same result: %b) | int sum: Stream %d ms, ListPipeline %d ms (same result: %b)%n",
+                    streamTime / 1_000_000, pipelineTime / 1_000_000, streamResult.equals(pipelineResult),
+                    streamSumTime / 1_000_000, pipelineSumTime / 1_000_000, streamSum == pipelineSum);
+        }
+    }
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    static final int CHUNK_SIZE = 1 << 13;
+
+    private final List<?> source;
+    // given the sink for this pipeline's output, returns the sink that accepts the source elements
+    private final Function<Consumer<? super T>, Consumer<Object>> stages;
+    private final int parallelThreshold;
+
+    private ListPipeline(List<?> source, Function<Consumer<? super T>, Consumer<Object>> stages, int parallelThreshold) {
+        this.source = source;
+        this.stages = stages;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ListPipeline<T> of(List<T> source) {
+        return new ListPipeline<>(source, downstream -> (Consumer<Object>) downstream, PARALLEL_THRESHOLD);
+    }
+
+    // never split into parallel chunks, e.g. when the stages are not thread safe
+    public ListPipeline<T> sequential() {
+        return new ListPipeline<>(source, stages, Integer.MAX_VALUE);
+    }
+
+    public ListPipeline<T> filter(Predicate<? super T> predicate) {
+        return new ListPipeline<>(source, downstream -> stages.apply(t -> {
+            if (predicate.test(t)) downstream.accept(t);
+        }), parallelThreshold);
+    }
+
+    public <R> ListPipeline<R> map(Function<? super T, ? extends R> mapper) {
+        return new ListPipeline<>(source, downstream -> stages.apply(t -> downstream.accept(mapper.apply(t))), parallelThreshold);
+    }
+
+    public IntView mapToInt(ToIntFunction<? super T> mapper) {
+        return new IntView(source, downstream -> stages.apply(t -> downstream.accept(mapper.applyAsInt(t))), parallelThreshold);
+    }
+
+    public LongView mapToLong(ToLongFunction<? super T> mapper) {
+        return new LongView(source, downstream -> stages.apply(t -> downstream.accept(mapper.applyAsLong(t))), parallelThreshold);
+    }
+
+    public List<T> toList() {
+        List<ArrayList<T>> parts = evaluate(source, stages, ArrayList::new, list -> list::add, parallelThreshold);
+        if (parts.size() == 1) return parts.get(0);
+        int size = 0;
+        for (List<T> part : parts) size += part.size();
+        List<T> res = new ArrayList<>(size);
+        for (List<T> part : parts) res.addAll(part);
+        return res;
+    }
+
+    public long count() {
+        return mapToLong(t -> 1L).sum();
+    }
+
+    // always sequential and in order
+    public void forEach(Consumer<? super T> action) {
+        Consumer<Object> sink = stages.apply(action);
+        for (Object element : source) sink.accept(element);
+    }
+
+    public static class IntView {
+        private final List<?> source;
+        private final Function<IntConsumer, Consumer<Object>> stages;
+        private final int parallelThreshold;
+
+        IntView(List<?> source, Function<IntConsumer, Consumer<Object>> stages, int parallelThreshold) {
+            this.source = source;
+            this.stages = stages;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        public IntView filter(IntPredicate predicate) {
+            return new IntView(source, downstream -> stages.apply(v -> {
+                if (predicate.test(v)) downstream.accept(v);
+            }), parallelThreshold);
+        }
+
+        public IntView map(IntUnaryOperator mapper) {
+            return new IntView(source, downstream -> stages.apply(v -> downstream.accept(mapper.applyAsInt(v))), parallelThreshold);
+        }
+
+        public long sum() {
+            long res = 0;
+            for (LongAccumulator part : evaluate(source, stages, LongAccumulator::new, acc -> acc::addInt, parallelThreshold)) res += part.value;
+            return res;
+        }
+
+        public long count() {
+            long res = 0;
+            for (LongAccumulator part : evaluate(source, stages, LongAccumulator::new, acc -> v -> acc.value++, parallelThreshold)) res += part.value;
+            return res;
+        }
+
+        public int[] toArray() {
+            List<IntChunk> parts = evaluate(source, stages, IntChunk::new, chunk -> chunk::add, parallelThreshold);
+            int size = 0;
+            for (IntChunk part : parts) size += part.size;
+            int[] res = new int[size];
+            int offset = 0;
+            for (IntChunk part : parts) {
+                System.arraycopy(part.values, 0, res, offset, part.size);
+                offset += part.size;
+            }
+            return res;
+        }
+    }
+
+    public static class LongView {
+        private final List<?> source;
+        private final Function<LongConsumer, Consumer<Object>> stages;
+        private final int parallelThreshold;
+
+        LongView(List<?> source, Function<LongConsumer, Consumer<Object>> stages, int parallelThreshold) {
+            this.source = source;
+            this.stages = stages;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        public LongView filter(LongPredicate predicate) {
+            return new LongView(source, downstream -> stages.apply(v -> {
+                if (predicate.test(v)) downstream.accept(v);
+            }), parallelThreshold);
+        }
+
+        public LongView map(LongUnaryOperator mapper) {
+            return new LongView(source, downstream -> stages.apply(v -> downstream.accept(mapper.applyAsLong(v))), parallelThreshold);
+        }
+
+        public long sum() {
+            long res = 0;
+            for (LongAccumulator part : evaluate(source, stages, LongAccumulator::new, acc -> acc::addLong, parallelThreshold)) res += part.value;
+            return res;
+        }
+
+        public long count() {
+            long res = 0;
+            for (LongAccumulator part : evaluate(source, stages, LongAccumulator::new, acc -> v -> acc.value++, parallelThreshold)) res += part.value;
+            return res;
+        }
+
+        public long[] toArray() {
+            List<LongChunk> parts = evaluate(source, stages, LongChunk::new, chunk -> chunk::add, parallelThreshold);
+            int size = 0;
+            for (LongChunk part : parts) size += part.size;
+            long[] res = new long[size];
+            int offset = 0;
+            for (LongChunk part : parts) {
+                System.arraycopy(part.values, 0, res, offset, part.size);
+                offset += part.size;
+            }
+            return res;
+        }
+    }
+
+    /*
+    Runs the fused chain over the source and returns one accumulator per chunk, in source order.
+        S = the sink type at the end of the chain (Consumer, IntConsumer, LongConsumer)
+        A = the accumulator a chunk writes into (list, counter, primitive buffer)
+    Small lists, lists without fast get(i) and single core machines are evaluated as one chunk on the calling thread.
+     */
+    private static <S, A> List<A> evaluate(List<?> source, Function<S, Consumer<Object>> stages,
+                                           Supplier<A> newAccumulator, Function<A, S> sinkOf, int parallelThreshold) {
+        int n = source.size();
+        if (n < parallelThreshold || !(source instanceof RandomAccess) || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            A accumulator = newAccumulator.get();
+            Consumer<Object> sink = stages.apply(sinkOf.apply(accumulator));
+            for (Object element : source) sink.accept(element);
+            return List.of(accumulator);
+        }
+
+        int chunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Object[] parts = new Object[chunks];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            A accumulator = newAccumulator.get();
+            Consumer<Object> sink = stages.apply(sinkOf.apply(accumulator));
+            int to = Math.min(n, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < to; i++) sink.accept(source.get(i));
+            parts[chunk] = accumulator;
+        });
+        @SuppressWarnings("unchecked")
+        List<A> res = (List<A>) Arrays.asList(parts);
+        return res;
+    }
+
+    static class LongAccumulator {
+        long value;
+
+        void addInt(int v) {
+            value += v;
+        }
+
+        void addLong(long v) {
+            value += v;
+        }
+    }
+
+    // growable output of one chunk of the source (toArray of IntView / LongView)
+    static class IntChunk {
+        int[] values = new int[16];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+
+    static class LongChunk {
+        long[] values = new long[16];
+        int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+}
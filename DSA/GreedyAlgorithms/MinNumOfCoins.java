@@ -10,11 +10,10 @@ public class MinNumOfCoins {
         System.out.println("Denominatiosn to be used are: "+ findMinNumOfCoins(value));
     }
 
-    private static int findMinNumOfCoins(int value) {
+    public static int findMinNumOfCoins(int value) {
         int res = 0;
         Integer[] denominations = new Integer[]{1, 2, 5, 10, 20, 50, 100, 500, 1000};
         Arrays.sort(denominations, Collections.reverseOrder());
-        System.out.println(Arrays.toString(denominations));
         int pointer =0;
         while(pointer< denominations.length && value>0){
             res+=value/denominations[pointer];
@@ -1,8 +1,11 @@
 package DSA.GreedyAlgorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /* MinNumOfRailwayPlatforms class to find the minimum number of railway platforms required
  * to accommodate all trains at a railway station given their arrival and departure times.
@@ -16,22 +19,107 @@ public class MinNumOfRailwayPlatforms {
         int[] arrival = {1000, 1010, 1030, 1045, 1100};
         int[] departure = {1015, 1025, 1040, 1050, 1115};
         System.out.println(obj.findPlatform(arrival, departure)); // Expected output: 2
+        System.out.println(obj.findPlatformByCounting(arrival, departure, false)); // Expected output: 2
     }
 
-    private int findPlatform(int[] arrival, int[] departure) {
-        int n= arrival.length;
-        int platformCount =0;
-        List<TrainDetails> trains = new ArrayList<>();
-        for(int i = 0; i < n; i++) {
-            trains.add(new TrainDetails(arrival[i], departure[i], i));
+    // counting arrays larger than this are not worth the memory, the sort is used instead
+    static final int MAX_COUNTING_RANGE = 1 << 24;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /*
+    Picks the cheaper of the two ways:
+        •	sorting: O(n log n), whatever the times are
+        •	counting: O(n + T), T = max time - min time, e.g. HHMM times are all in 0..2359
+    so counting wins when T is smaller than about n log n.
+     */
+    public int findPlatform(int[] arrival, int[] departure) {
+        int n = arrival.length;
+        if (n == 0) return 0;
+        long range = (long) Math.max(max(arrival), max(departure)) - Math.min(min(arrival), min(departure)) + 2;
+        long sortCost = (long) n * (32 - Integer.numberOfLeadingZeros(n));
+        if (range <= MAX_COUNTING_RANGE && range <= sortCost) {
+            return findPlatformByCounting(arrival, departure, n >= PARALLEL_THRESHOLD);
         }
-        Collections.sort(trains);
+        return findPlatformBySorting(arrival, departure);
+    }
+
+    /*
+    Difference array over the time domain:
+        1.	a train needs a platform from its arrival to its departure, both inclusive,
+            so it adds +1 at arrival and -1 at departure + 1
+        2.	the running (prefix) sum at time t is the number of trains at the station at t,
+            the answer is the max of the prefix sums
+
+    With parallel = true every chunk of trains is accumulated into its own array (no sharing, no atomics)
+    and the per-thread arrays are added up at the end, which costs O(T) per chunk.
+     */
+    public int findPlatformByCounting(int[] arrival, int[] departure, boolean parallel) {
+        int n = arrival.length;
+        if (n == 0) return 0;
+        // min / max over both arrays, so a train that departs before it arrives cannot index out of the array
+        int minTime = Math.min(min(arrival), min(departure));
+        long range = (long) Math.max(max(arrival), max(departure)) - minTime + 2;
+        if (range > MAX_COUNTING_RANGE) throw new IllegalArgumentException("Time range " + range + " is too large to count");
+
+        int chunks = parallel ? Math.min(ForkJoinPool.getCommonPoolParallelism(), n / (PARALLEL_THRESHOLD / 4)) : 1;
+        int[] diff;
+        if (chunks < 2) {
+            diff = accumulate(arrival, departure, 0, n, minTime, (int) range);
+        } else {
+            diff = IntStream.range(0, chunks).parallel()
+                    .mapToObj(chunk -> accumulate(arrival, departure, (int) ((long) n * chunk / chunks),
+                            (int) ((long) n * (chunk + 1) / chunks), minTime, (int) range))
+                    .reduce((a, b) -> {
+                        for (int t = 0; t < a.length; t++) a[t] += b[t];
+                        return a;
+                    })
+                    .orElseThrow();
+        }
+
+        int platformsNeeded = 0, maxPlatforms = 0;
+        for (int count : diff) {
+            platformsNeeded += count;
+            maxPlatforms = Math.max(maxPlatforms, platformsNeeded);
+        }
+        return maxPlatforms;
+    }
+
+    private static int[] accumulate(int[] arrival, int[] departure, int from, int to, int minTime, int range) {
+        int[] diff = new int[range];
+        for (int i = from; i < to; i++) {
+            diff[arrival[i] - minTime]++;
+            diff[departure[i] - minTime + 1]--;
+        }
+        return diff;
+    }
+
+    private static int min(int[] times) {
+        int min = Integer.MAX_VALUE;
+        for (int time : times) min = Math.min(min, time);
+        return min;
+    }
+
+    private static int max(int[] times) {
+        int max = Integer.MIN_VALUE;
+        for (int time : times) max = Math.max(max, time);
+        return max;
+    }
+
+    public int findPlatformBySorting(int[] arrival, int[] departure) {
+        int n= arrival.length;
+        if (n == 0) return 0;
+        // the two pointers walk arrivals and departures independently, so each array is sorted on its own
+        // (sorting the trains as pairs by departure left the arrivals out of order)
+        int[] arrivals = arrival.clone();
+        int[] departures = departure.clone();
+        Arrays.sort(arrivals);
+        Arrays.sort(departures);
 
         int platformsNeeded = 1, maxPlatforms = 1;
         int i = 1, j = 0;
 
         while (i < n && j < n) {
-            if (trains.get(i).arrivalTime <= trains.get(j).departureTime) {
+            if (arrivals[i] <= departures[j]) {
                 platformsNeeded++;
                 i++;
             } else {
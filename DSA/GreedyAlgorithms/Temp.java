@@ -21,6 +21,10 @@ public class Temp {
             return name;
         }
 
+        public int getAge() {
+            return age;
+        }
+
         @Override
         public String toString() {
             return "Employee{" +
@@ -40,18 +44,22 @@ public class Temp {
                 new Employee("Alice", 30) // duplicate name
         );
 
-        List<String> names =  employees.stream()
+        // both maps run in the same pass, no intermediate list of names is built
+        List<String> names = ListPipeline.of(employees)
                 .map(Employee::getName)
                 .map(String::toUpperCase)
                 .toList();
+        System.out.println(names);
 
+        System.out.println(filterList(employees, e -> e.getAge() > 26));
 
-
+        // primitive path, ages are never boxed
+        long totalAge = ListPipeline.of(employees).mapToInt(Employee::getAge).sum();
+        System.out.println("Total age: " + totalAge);
     }
 
     public static <T> List<T> filterList(List<T> list, Predicate<T> predicate) {
-
-        return list;
+        return ListPipeline.of(list).filter(predicate).toList();
     }
 
 }
@@ -0,0 +1,273 @@
+package DSA.GreedyAlgorithms;
+
+import DSA.Recursion.SearchBudget;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * 0/1 knapsack: every item is taken whole or not at all, which FractionalKnapsackProblem can not answer
+ * (its greedy by value / weight is only optimal when items can be cut).
+ *
+ *  1.	maxValueByDp: dp[c] = best value with total weight <= c, one long[] over the capacity,
+ *      every item updates it from high c to low c so the item is used at most once. O(n * C) time, O(C) memory.
+ *      For C >= PARALLEL_THRESHOLD the capacity range of every item pass is split with fork-join
+ *      (two arrays, the pass reads the previous one and writes the next one, so the halves are independent).
+ *  2.	reachable / canFillExactly / maxFill: feasibility only ("can these weights sum to exactly c"), a bitset of
+ *      reachable sums: reachable |= reachable << w per item, 64 capacities per long operation.
+ *  3.	maxValueByBranchAndBound: for capacities too large for a table. Depth first include / exclude over the items
+ *      by value density, a subtree is cut when its upper bound can not beat the best value found so far.
+ *      The bound is the fractional knapsack of the undecided items (what fractionalKnapsack answers for them),
+ *      found in O(log n) with prefix sums of the density ordered items and a binary search, in long arithmetic
+ *      rounded down so no double rounding can cut the optimum. At the root it is fractionalKnapsack's answer itself;
+ *      if the greedy start already reaches it there is nothing to search.
+ *
+ * maxValue picks: all items fit -> their sum; capacity (after dividing by the gcd of the weights) up to
+ * MAX_DP_CAPACITY -> DP; otherwise branch and bound.
+ */
+public class ZeroOneKnapsack {
+
+    public static void main(String[] args) {
+        int[] values = {5, 10, 15};
+        int[] weights = {2, 3, 5};
+        System.out.println("0/1 knapsack, capacity 5: " + maxValue(weights, values, 5)
+                + " (fractional: " + FractionalKnapsackProblem.fractionalKnapsack(weights, values, 5) + ")");
+        System.out.println("Exactly 7 reachable: " + canFillExactly(weights, 7) + ", exactly 6: " + canFillExactly(weights, 6));
+
+        Random random = new Random(3);
+        int n = 200;
+        int[] w = random.ints(n, 1, 10_000).toArray(), v = random.ints(n, 1, 10_000).toArray();
+        int capacity = 400_000;
+        long start = System.nanoTime();
+        long dp = maxValueByDp(w, v, capacity);
+        long middle = System.nanoTime();
+        SearchBudget.Result<Long> bb = maxValueByBranchAndBound(w, v, capacity, SearchBudget.unlimited());
+        long end = System.nanoTime();
+        System.out.printf("n=%d, C=%d: DP %d in %.1f ms, branch and bound %d in %.1f ms%n",
+                n, capacity, dp, (middle - start) / 1e6, bb.value(), (end - middle) / 1e6);
+    }
+
+    static final int MAX_DP_CAPACITY = 1 << 22;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    // capacities per fork-join leaf
+    private static final int SPLIT_SIZE = 1 << 13;
+
+    public static long maxValue(int[] weights, int[] values, int capacity) {
+        check(weights, values, capacity);
+        long totalWeight = 0, totalValue = 0;
+        int gcd = 0;
+        for (int i = 0; i < weights.length; i++) {
+            totalWeight += weights[i];
+            totalValue += values[i];
+            gcd = gcd(gcd, weights[i]);
+        }
+        if (totalWeight <= capacity) return totalValue;
+        // every total weight is a multiple of the gcd, so the table only needs every gcd-th capacity
+        int scaled = capacity / gcd;
+        if (scaled <= MAX_DP_CAPACITY) {
+            int[] scaledWeights = weights;
+            if (gcd > 1) {
+                scaledWeights = new int[weights.length];
+                for (int i = 0; i < weights.length; i++) scaledWeights[i] = weights[i] / gcd;
+            }
+            return maxValueByDp(scaledWeights, values, scaled);
+        }
+        return maxValueByBranchAndBound(weights, values, capacity, SearchBudget.unlimited()).value();
+    }
+
+    public static long maxValueByDp(int[] weights, int[] values, int capacity) {
+        return maxValueByDp(weights, values, capacity, capacity >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1);
+    }
+
+    public static long maxValueByDp(int[] weights, int[] values, int capacity, boolean parallel) {
+        check(weights, values, capacity);
+        if (parallel) return maxValueByParallelDp(weights, values, capacity);
+        long[] dp = new long[capacity + 1];
+        for (int i = 0; i < weights.length; i++) {
+            int weight = weights[i];
+            long value = values[i];
+            // from high to low, dp[c - weight] is still the value without item i
+            for (int c = capacity; c >= weight; c--) {
+                dp[c] = Math.max(dp[c], dp[c - weight] + value);
+            }
+        }
+        return dp[capacity];
+    }
+
+    private static long maxValueByParallelDp(int[] weights, int[] values, int capacity) {
+        long[] previous = new long[capacity + 1], next = new long[capacity + 1];
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > capacity) continue;
+            pool.invoke(new ItemPass(previous, next, weights[i], values[i], 0, capacity + 1));
+            long[] swap = previous;
+            previous = next;
+            next = swap;
+        }
+        return previous[capacity];
+    }
+
+    // next[c] for c in from..to of one item, reading only previous[]
+    private static final class ItemPass extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] previous, next;
+        private final int weight;
+        private final long value;
+        private final int from, to;
+
+        ItemPass(long[] previous, long[] next, int weight, long value, int from, int to) {
+            this.previous = previous;
+            this.next = next;
+            this.weight = weight;
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_SIZE) {
+                int copyEnd = Math.min(to, Math.max(from, weight));
+                System.arraycopy(previous, from, next, from, copyEnd - from);
+                for (int c = copyEnd; c < to; c++) next[c] = Math.max(previous[c], previous[c - weight] + value);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ItemPass(previous, next, weight, value, from, middle),
+                    new ItemPass(previous, next, weight, value, middle, to));
+        }
+    }
+
+    /*
+    Bit c of the result is set if some subset of the weights sums to exactly c (0 <= c <= capacity).
+    Adding an item shifts the whole set by its weight: words are handled from high to low, so every word
+    reads lower words that do not include the item yet (the same reason the DP goes from high to low capacity).
+     */
+    public static long[] reachable(int[] weights, int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity must not be negative");
+        long[] bits = new long[(capacity >>> 6) + 1];
+        bits[0] = 1;
+        long lastWordMask = -1L >>> (63 - (capacity & 63));
+        for (int weight : weights) {
+            if (weight <= 0) throw new IllegalArgumentException("weights must be positive");
+            if (weight > capacity) continue;
+            int wordShift = weight >>> 6, bitShift = weight & 63;
+            for (int i = bits.length - 1; i >= wordShift; i--) {
+                long shifted = bits[i - wordShift] << bitShift;
+                if (bitShift != 0 && i - wordShift > 0) shifted |= bits[i - wordShift - 1] >>> (64 - bitShift);
+                bits[i] |= shifted;
+            }
+            bits[bits.length - 1] &= lastWordMask;
+        }
+        return bits;
+    }
+
+    public static boolean canFillExactly(int[] weights, int target) {
+        if (target < 0) return false;
+        long[] bits = reachable(weights, target);
+        return (bits[target >>> 6] >>> (target & 63) & 1) != 0;
+    }
+
+    // the largest total weight <= capacity that some subset reaches
+    public static int maxFill(int[] weights, int capacity) {
+        long[] bits = reachable(weights, capacity);
+        for (int i = bits.length - 1; ; i--) {
+            if (bits[i] != 0) return (i << 6) + 63 - Long.numberOfLeadingZeros(bits[i]);
+        }
+    }
+
+    /*
+    Best value found before the budget ran out (the optimum unless truncated).
+     */
+    public static SearchBudget.Result<Long> maxValueByBranchAndBound(int[] weights, int[] values, int capacity, SearchBudget budget) {
+        check(weights, values, capacity);
+        int n = weights.length;
+        // by value / weight descending, compared as v1 * w2 vs v2 * w1 so no precision is lost
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare((long) values[b] * weights[a], (long) values[a] * weights[b]));
+
+        BranchAndBound search = new BranchAndBound(n, budget);
+        for (int i = 0; i < n; i++) {
+            search.weights[i] = weights[order[i]];
+            search.values[i] = values[order[i]];
+            search.prefixWeight[i + 1] = search.prefixWeight[i] + search.weights[i];
+            search.prefixValue[i + 1] = search.prefixValue[i] + search.values[i];
+        }
+
+        // greedy start: take every item that still fits, in density order
+        long remaining = capacity;
+        for (int i = 0; i < n; i++) {
+            if (search.weights[i] <= remaining) {
+                remaining -= search.weights[i];
+                search.best += search.values[i];
+            }
+        }
+        // bound(0, capacity) is fractionalKnapsack(weights, values, capacity) rounded down, computed without doubles
+        if (search.best < search.bound(0, capacity)) search.branch(0, capacity, 0);
+        return new SearchBudget.Result<>(search.best, budget.truncated());
+    }
+
+    private static final class BranchAndBound {
+        final int[] weights, values;
+        final long[] prefixWeight, prefixValue;
+        final SearchBudget budget;
+        long best;
+
+        BranchAndBound(int n, SearchBudget budget) {
+            weights = new int[n];
+            values = new int[n];
+            prefixWeight = new long[n + 1];
+            prefixValue = new long[n + 1];
+            this.budget = budget;
+        }
+
+        void branch(int i, long capacity, long value) {
+            if (value > best) best = value;
+            if (i == weights.length || budget.exhausted()) return;
+            if (value + bound(i, capacity) <= best) return;
+            if (weights[i] <= capacity) branch(i + 1, capacity - weights[i], value + values[i]);
+            branch(i + 1, capacity, value);
+        }
+
+        /*
+        Fractional knapsack of items i..n-1, whole items while they fit, then a fraction of the next one, rounded down
+        (the optimum is an integer, so the fraction's remainder can never be reached anyway).
+         */
+        long bound(int i, long capacity) {
+            // last k with prefixWeight[k] - prefixWeight[i] <= capacity
+            long limit = prefixWeight[i] + capacity;
+            int low = i, high = weights.length;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (prefixWeight[middle] <= limit) low = middle;
+                else high = middle - 1;
+            }
+            long bound = prefixValue[low] - prefixValue[i];
+            // the rest of the capacity is below weights[low], so the product fits in a long
+            if (low < weights.length) bound += (limit - prefixWeight[low]) * values[low] / weights[low];
+            return bound;
+        }
+    }
+
+    private static void check(int[] weights, int[] values, int capacity) {
+        if (weights.length != values.length) throw new IllegalArgumentException("weights and values must be of the same length");
+        if (capacity < 0) throw new IllegalArgumentException("capacity must not be negative");
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0) throw new IllegalArgumentException("weights must be positive");
+            if (values[i] < 0) throw new IllegalArgumentException("values must not be negative");
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
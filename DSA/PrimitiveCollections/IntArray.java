@@ -0,0 +1,128 @@
+package DSA.PrimitiveCollections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/*
+ * Immutable view of ints: elements from .. to - 1 of an int[] nobody writes to any more.
+ *
+ * It is what the solvers return for one result (a subset, a combination, a column), either as its own copy
+ * (IntList.snapshot(), of(...)) or as a slice of the shared array of an IntRows, which costs no copy at all.
+ * The array is never exposed, toArray() copies.
+ *
+ * hashCode / toString follow List<Integer>, equals only compares with another IntArray. asList() is a read only
+ * List<Integer> over the same ints (boxing on every read), for code that still takes lists or compares with one.
+ */
+public final class IntArray {
+
+    private static final IntArray EMPTY = new IntArray(new int[0], 0, 0);
+
+    private final int[] elements;
+    private final int from, to;
+
+    // no copy, the caller hands over elements[from .. to) and never changes them again
+    IntArray(int[] elements, int from, int to) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static IntArray of(int... values) {
+        return values.length == 0 ? EMPTY : new IntArray(values.clone(), 0, values.length);
+    }
+
+    public static IntArray copyOf(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return from == to ? EMPTY : new IntArray(Arrays.copyOfRange(values, from, to), 0, to - from);
+    }
+
+    public static IntArray empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, to - from);
+        return elements[from + index];
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOfRange(elements, from, to);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = from; i < to; i++) action.accept(elements[i]);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, from, to);
+    }
+
+    public List<Integer> asList() {
+        return new Boxed(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntArray other)) return false;
+        return Arrays.equals(elements, from, to, other.elements, other.from, other.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(elements, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return toString(elements, from, to);
+    }
+
+    // List.hashCode over the boxed values
+    static int hashCode(int[] elements, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) hash = 31 * hash + elements[i];
+        return hash;
+    }
+
+    // AbstractCollection.toString format: [1, 2, 3]
+    static String toString(int[] elements, int from, int to) {
+        StringBuilder builder = new StringBuilder(2 + 4 * (to - from)).append('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) builder.append(", ");
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static final class Boxed extends AbstractList<Integer> implements RandomAccess {
+        private final IntArray array;
+
+        Boxed(IntArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return array.get(index);
+        }
+
+        @Override
+        public int size() {
+            return array.size();
+        }
+    }
+}
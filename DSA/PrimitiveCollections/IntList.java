@@ -0,0 +1,161 @@
+package DSA.PrimitiveCollections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/*
+ * Growable list of ints, what ArrayList<Integer> is without the boxing:
+ *
+ *  •	one int[] that doubles when full, 4 bytes per element instead of a 4 byte reference plus a 16 byte
+ *      Integer (for values outside the -128..127 cache)
+ *  •	push / pop / peek at the end, so it doubles as the "current" stack of a backtracking search:
+ *          current.push(x); recurse(...); current.pop();
+ *  •	snapshot() copies the elements into an immutable IntArray, the result of a search step
+ *      (what new ArrayList<>(current) is for List<Integer>)
+ *
+ * hashCode / toString follow List<Integer>, so [1, 2, 3] prints and hashes the same either way. equals only
+ * compares with another IntList (never equal to a List<Integer>, List.equals could not return the same).
+ * Not thread safe.
+ */
+public class IntList {
+
+    public static void main(String[] args) {
+        IntList stack = new IntList();
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        IntArray saved = stack.snapshot();
+        System.out.println("Popped " + stack.pop() + ", now " + stack + ", snapshot still " + saved);
+        System.out.println("Same hash as List<Integer>: " + (saved.hashCode() == List.of(1, 2, 3).hashCode()));
+    }
+
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        elements = EMPTY;
+    }
+
+    public IntList(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity must not be negative");
+        elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        Objects.checkIndex(index, size);
+        elements[index] = value;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    public void addAll(IntList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    public void addAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        int count = to - from;
+        if (size + count > elements.length) grow(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void push(int value) {
+        add(value);
+    }
+
+    public int pop() {
+        if (size == 0) throw new NoSuchElementException("pop on an empty list");
+        return elements[--size];
+    }
+
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("peek on an empty list");
+        return elements[size - 1];
+    }
+
+    // drops the elements, keeps the capacity
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) grow(capacity);
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("IntList larger than Integer.MAX_VALUE");
+        // doubling, capped below the VM array limit
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, Math.max(10, 2L * elements.length)));
+        if (capacity < minCapacity) throw new OutOfMemoryError("IntList larger than " + capacity);
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntArray snapshot() {
+        return new IntArray(toArray(), 0, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(elements[i]);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    // copies into a new ArrayList<Integer>, for callers of the boxed APIs
+    public List<Integer> boxed() {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) list.add(elements[i]);
+        return list;
+    }
+
+    // the backing array, only elements 0 .. size() - 1 are valid
+    int[] elements() {
+        return elements;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntList other)) return false;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntArray.hashCode(elements, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return IntArray.toString(elements, 0, size);
+    }
+}
@@ -0,0 +1,283 @@
+package DSA.PrimitiveCollections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/*
+ * IntRows for result sets larger than the heap: the same CSR layout (all ints back to back in a payload,
+ * row i owns payload[offsets[i] .. offsets[i + 1])), but the payload is a list of fixed size chunks that can
+ * leave the heap:
+ *
+ *  1.	Rows are appended into the current chunk, a row that does not fit continues in the next one,
+ *      so no chunk is ever copied to grow (IntRows doubles one array, a 4 GB payload can not).
+ *  2.	A full chunk is sealed and never written again. When the chunks on the heap would exceed the memory budget,
+ *      the oldest sealed chunks are written to a temp file and dropped from the heap (chunk c is at c * chunkBytes,
+ *      so the spilled chunks are always a prefix 0 .. spilled - 1).
+ *  3.	Reads of a spilled chunk go through a read only memory mapping of the file, in regions of up to 1 GB
+ *      (one mapping per chunk would run into the OS limit on mappings for small chunks), mapped on first use and
+ *      mapped again larger when the region has gained spilled chunks since. The OS page cache keeps the hot parts
+ *      in memory, outside the heap and the GC.
+ *
+ * The offsets are longs (the payload can pass 2^31 ints) and stay on the heap, 8 bytes per row.
+ *
+ *  •	random access: row(i), get(i, column), rowSize(i); row(i) is a slice without a copy while its chunk is on
+ *      the heap, a copy otherwise
+ *  •	sequential: iterator() / forEach() in row order
+ *
+ * One writer, reads on the same thread (or after the writer is done). close() deletes the temp file, and it is
+ * the only thing that does: deleteOnExit would keep every path in a list until the JVM exits, so a store that
+ * may spill belongs in a try-with-resources.
+ */
+public class IntResultStore implements IntRowWriter, Iterable<IntArray>, AutoCloseable {
+
+    public static void main(String[] args) {
+        // 4 MB budget with 1 MB chunks: all but the last few chunks of the 2^20 subsets end up in the temp file
+        try (IntResultStore store = new IntResultStore(4 << 20, 1 << 18)) {
+            IntList current = new IntList();
+            int n = 20;
+            for (int mask = 0; mask < 1 << n; mask++) {
+                current.clear();
+                for (int i = 0; i < n; i++) if ((mask >> i & 1) != 0) current.add(i);
+                store.add(current);
+            }
+            System.out.printf("%d rows, %d ints: %d bytes on the heap, %d bytes spilled%n",
+                    store.size(), store.valueCount(), store.residentBytes(), store.spilledBytes());
+            System.out.println("Row 5 (spilled): " + store.row(5) + ", last row: " + store.row(store.size() - 1));
+            long sum = 0;
+            for (IntArray row : store) sum += row.size();
+            System.out.println("Sequential pass over " + sum + " ints");
+        }
+    }
+
+    public static final int DEFAULT_CHUNK_INTS = 1 << 20;
+    private static final long MAX_REGION_BYTES = 1L << 30;
+
+    private final int chunkInts;
+    private final int chunkShift;
+    private final int maxResidentChunks;
+    private final int chunksPerRegion;
+
+    // chunks[c] is null once chunk c is spilled
+    private int[][] chunks = new int[16][];
+    private int chunkCount;
+    private int spilledChunks;
+    private long valueCount;
+
+    private long[] offsets = new long[16];
+    private int rows;
+
+    private Path file;
+    private FileChannel channel;
+    private ByteBuffer spillBuffer;
+    // regions[r] maps the first regionChunks[r] chunks of region r (chunks r * chunksPerRegion ...)
+    private IntBuffer[] regions = new IntBuffer[1];
+    private int[] regionChunks = new int[1];
+    private boolean closed;
+
+    // never spills
+    public IntResultStore() {
+        this(Long.MAX_VALUE, DEFAULT_CHUNK_INTS);
+    }
+
+    public IntResultStore(long memoryBudgetBytes) {
+        this(memoryBudgetBytes, DEFAULT_CHUNK_INTS);
+    }
+
+    /*
+    memoryBudgetBytes: payload bytes kept on the heap, the chunk being written always stays, so at least one chunk.
+    chunkInts: a power of two, so the chunk of a payload position is a shift.
+     */
+    public IntResultStore(long memoryBudgetBytes, int chunkInts) {
+        if (chunkInts < 1 || Integer.bitCount(chunkInts) != 1 || chunkInts > 1 << 28) {
+            throw new IllegalArgumentException("chunkInts must be a power of two up to 2^28");
+        }
+        if (memoryBudgetBytes < 0) throw new IllegalArgumentException("memoryBudgetBytes must not be negative");
+        this.chunkInts = chunkInts;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkInts);
+        this.maxResidentChunks = (int) Math.max(1, Math.min(Integer.MAX_VALUE, memoryBudgetBytes / (4L * chunkInts)));
+        this.chunksPerRegion = (int) (MAX_REGION_BYTES / (4L * chunkInts));
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public long valueCount() {
+        return valueCount;
+    }
+
+    public long residentBytes() {
+        return 4L * chunkInts * (chunkCount - spilledChunks);
+    }
+
+    public long spilledBytes() {
+        return 4L * chunkInts * spilledChunks;
+    }
+
+    @Override
+    public void add(int[] row, int from, int to) {
+        Objects.checkFromToIndex(from, to, row.length);
+        checkOpen();
+        if (rows == Integer.MAX_VALUE - 8) throw new IllegalStateException("IntResultStore is full");
+        while (from < to) {
+            int chunk = (int) (valueCount >>> chunkShift), at = (int) valueCount & (chunkInts - 1);
+            if (chunk == chunkCount) newChunk();
+            int count = Math.min(to - from, chunkInts - at);
+            System.arraycopy(row, from, chunks[chunk], at, count);
+            from += count;
+            valueCount += count;
+        }
+        if (rows + 2 > offsets.length) offsets = Arrays.copyOf(offsets, (int) Math.min(Integer.MAX_VALUE - 8, 2L * offsets.length));
+        offsets[++rows] = valueCount;
+    }
+
+    // every chunk before it is full (sealed), spill the oldest ones until the new chunk fits in the budget
+    private void newChunk() {
+        while (chunkCount - spilledChunks >= maxResidentChunks) spill(spilledChunks++);
+        if (chunkCount == chunks.length) chunks = Arrays.copyOf(chunks, 2 * chunkCount);
+        chunks[chunkCount++] = new int[chunkInts];
+    }
+
+    private void spill(int chunk) {
+        try {
+            if (channel == null) {
+                file = Files.createTempFile("int-results", ".bin");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                // a private scratch file, native order is the cheapest to convert to and from
+                spillBuffer = ByteBuffer.allocateDirect(4 * chunkInts).order(ByteOrder.nativeOrder());
+            }
+            spillBuffer.clear();
+            spillBuffer.asIntBuffer().put(chunks[chunk]);
+            long position = (long) chunk * 4 * chunkInts;
+            while (spillBuffer.hasRemaining()) position += channel.write(spillBuffer, position);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not spill results to " + file, e);
+        }
+        chunks[chunk] = null;
+    }
+
+    public int rowSize(int row) {
+        checkOpen();
+        Objects.checkIndex(row, rows);
+        return (int) (offsets[row + 1] - offsets[row]);
+    }
+
+    public int get(int row, int column) {
+        Objects.checkIndex(column, rowSize(row));
+        long position = offsets[row] + column;
+        int chunk = (int) (position >>> chunkShift), at = (int) position & (chunkInts - 1);
+        return chunk >= spilledChunks ? chunks[chunk][at] : spilledRegion(chunk).get(regionIndex(chunk, at));
+    }
+
+    public IntArray row(int row) {
+        int size = rowSize(row);
+        if (size == 0) return IntArray.empty();
+        long from = offsets[row];
+        int chunk = (int) (from >>> chunkShift), at = (int) from & (chunkInts - 1);
+        // on the heap and in one chunk: a slice, the sealed part of a chunk never changes
+        if (chunk >= spilledChunks && at + size <= chunkInts) return new IntArray(chunks[chunk], at, at + size);
+        int[] copy = new int[size];
+        read(from, copy, size);
+        return new IntArray(copy, 0, size);
+    }
+
+    // ints [position, position + count) of the payload into dest[0 .. count)
+    private void read(long position, int[] dest, int count) {
+        int done = 0;
+        while (done < count) {
+            int chunk = (int) (position >>> chunkShift), at = (int) position & (chunkInts - 1);
+            int length = Math.min(count - done, chunkInts - at);
+            if (chunk >= spilledChunks) System.arraycopy(chunks[chunk], at, dest, done, length);
+            else spilledRegion(chunk).get(regionIndex(chunk, at), dest, done, length);
+            done += length;
+            position += length;
+        }
+    }
+
+    // the mapping of the region holding a spilled chunk, index 0 = the first int of the region
+    private IntBuffer spilledRegion(int chunk) {
+        int region = chunk / chunksPerRegion, needed = chunk % chunksPerRegion + 1;
+        if (region >= regions.length) {
+            regions = Arrays.copyOf(regions, Math.max(region + 1, 2 * regions.length));
+            regionChunks = Arrays.copyOf(regionChunks, regions.length);
+        }
+        if (regionChunks[region] < needed) {
+            // everything spilled in this region so far, so reading along the spilled chunks rarely maps again
+            int chunks = Math.min(chunksPerRegion, spilledChunks - region * chunksPerRegion);
+            long chunkBytes = 4L * chunkInts;
+            try {
+                regions[region] = channel.map(FileChannel.MapMode.READ_ONLY, region * MAX_REGION_BYTES, chunks * chunkBytes)
+                        .order(ByteOrder.nativeOrder()).asIntBuffer();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not map spilled results in " + file, e);
+            }
+            regionChunks[region] = chunks;
+        }
+        return regions[region];
+    }
+
+    private int regionIndex(int chunk, int at) {
+        return chunk % chunksPerRegion * chunkInts + at;
+    }
+
+    // rows in order; rows added while iterating are included
+    @Override
+    public Iterator<IntArray> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < rows;
+            }
+
+            @Override
+            public IntArray next() {
+                if (next >= rows) throw new NoSuchElementException();
+                return row(next++);
+            }
+        };
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("IntResultStore is closed");
+    }
+
+    /*
+    Drops the chunks and the mappings, closes the channel and deletes the temp file last, in finally, so it goes
+    even if the close fails (Windows refuses to delete a file that is still open). A mapping is only released when
+    its buffer is collected, so nothing here may keep one. Rows returned before stay readable if they were copies
+    or slices.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        chunks = null;
+        regions = null;
+        regionChunks = null;
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not close " + file, e);
+        } finally {
+            channel = null;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not delete " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package DSA.PrimitiveCollections;
+
+/*
+ * Where a solver appends its results, one row of ints per result: an IntRows in memory, or an IntResultStore
+ * when the results may not fit in the heap. The solver passes its backtracking IntList (or a slice of its
+ * working array), the writer copies the ints, so the caller keeps changing its buffer afterwards.
+ */
+public interface IntRowWriter {
+
+    void add(int[] row, int from, int to);
+
+    default void add(IntList row) {
+        add(row.elements(), 0, row.size());
+    }
+}
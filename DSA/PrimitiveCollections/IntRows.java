@@ -0,0 +1,136 @@
+package DSA.PrimitiveCollections;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/*
+ * A List<IntArray> stored as two int arrays, the primitive replacement of List<List<Integer>> for search results:
+ *
+ *  •	values:  the ints of all rows, back to back
+ *  •	offsets: row i owns values[offsets[i] .. offsets[i + 1])
+ *
+ * (the CSR layout CombinationSumIndex uses for its buckets). A row costs its ints plus one offset, 4 * (size + 1)
+ * bytes, where a List<Integer> row costs an ArrayList, its Object[] and an Integer per value outside -128..127,
+ * and 1M rows are 2 arrays for the GC to trace instead of millions of objects.
+ *
+ * Rows are append only: get(i) is an IntArray slice of the values array without a copy, and it stays valid when
+ * the arrays grow (a grown array is a new copy, the slice keeps the old one, whose ints never change).
+ */
+public class IntRows extends AbstractList<IntArray> implements RandomAccess, IntRowWriter {
+
+    public static void main(String[] args) {
+        IntRows rows = new IntRows();
+        IntList current = new IntList();
+        for (int i = 1; i <= 3; i++) {
+            current.push(i);
+            rows.add(current);
+        }
+        System.out.println(rows + ", " + rows.valueCount() + " values, row 2 column 1 = " + rows.get(2, 1));
+        System.out.println("Equal to the List<List<Integer>> form: "
+                + rows.toLists().equals(List.of(List.of(1), List.of(1, 2), List.of(1, 2, 3))));
+    }
+
+    private int[] values;
+    private int valueCount;
+    private int[] offsets;
+    private int rows;
+
+    public IntRows() {
+        this(10, 10);
+    }
+
+    public IntRows(int rowCapacity, int valueCapacity) {
+        if (rowCapacity < 0 || valueCapacity < 0) throw new IllegalArgumentException("capacities must not be negative");
+        values = new int[valueCapacity];
+        offsets = new int[rowCapacity + 1];
+    }
+
+    /*
+    Rows over existing arrays, without a copy: row i is values[offsets[i] .. offsets[i + 1]),
+    offsets must start at 0 and not decrease. The caller hands both arrays over and must not change them.
+     */
+    public static IntRows of(int[] values, int[] offsets) {
+        if (offsets.length == 0 || offsets[0] != 0) throw new IllegalArgumentException("offsets must start with 0");
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) throw new IllegalArgumentException("offsets must not decrease, at " + i);
+        }
+        if (offsets[offsets.length - 1] > values.length) throw new IllegalArgumentException("offsets point past the values");
+        IntRows res = new IntRows(0, 0);
+        res.values = values;
+        res.valueCount = offsets[offsets.length - 1];
+        res.offsets = offsets;
+        res.rows = offsets.length - 1;
+        return res;
+    }
+
+    @Override
+    public int size() {
+        return rows;
+    }
+
+    // ints in all rows together
+    public int valueCount() {
+        return valueCount;
+    }
+
+    @Override
+    public IntArray get(int row) {
+        Objects.checkIndex(row, rows);
+        return new IntArray(values, offsets[row], offsets[row + 1]);
+    }
+
+    public int rowSize(int row) {
+        Objects.checkIndex(row, rows);
+        return offsets[row + 1] - offsets[row];
+    }
+
+    public int get(int row, int column) {
+        Objects.checkIndex(column, rowSize(row));
+        return values[offsets[row] + column];
+    }
+
+    @Override
+    public boolean add(IntArray row) {
+        add(row.toArray(), 0, row.size());
+        return true;
+    }
+
+    @Override
+    public void add(int[] row, int from, int to) {
+        Objects.checkFromToIndex(from, to, row.length);
+        int count = to - from;
+        if (valueCount + count > values.length) values = grow(values, valueCount + count);
+        if (rows + 2 > offsets.length) offsets = grow(offsets, rows + 2);
+        System.arraycopy(row, from, values, valueCount, count);
+        valueCount += count;
+        offsets[++rows] = valueCount;
+    }
+
+    private static int[] grow(int[] array, int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("IntRows larger than Integer.MAX_VALUE");
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, 2L * array.length));
+        if (capacity < minCapacity) throw new OutOfMemoryError("IntRows larger than " + capacity);
+        return Arrays.copyOf(array, capacity);
+    }
+
+    // drops the unused capacity once the rows are complete
+    public void trimToSize() {
+        if (values.length > valueCount) values = Arrays.copyOf(values, valueCount);
+        if (offsets.length > rows + 1) offsets = Arrays.copyOf(offsets, rows + 1);
+    }
+
+    // copies into the List<List<Integer>> form, for callers of the boxed APIs
+    public List<List<Integer>> toLists() {
+        List<List<Integer>> lists = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            List<Integer> list = new ArrayList<>(offsets[r + 1] - offsets[r]);
+            for (int i = offsets[r]; i < offsets[r + 1]; i++) list.add(values[i]);
+            lists.add(list);
+        }
+        return lists;
+    }
+}
@@ -1,27 +1,74 @@
 package DSA.Recursion;
 
+import DSA.PrimitiveCollections.IntList;
+import DSA.PrimitiveCollections.IntRowWriter;
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.ArrayList;
 import java.util.List;
 
 public class CombinationSum3 {
 
+    /*
+    Answered from CombinationSumIndex: all 2^9 subsets of 1..9 are bucketed by (size, sum) once,
+    so a call is a lookup plus decoding the masks of one bucket into new (mutable) lists.
+    Same combinations in the same order as combinationSum3Backtracking.
+     */
     public static List<List<Integer>> combinationSum3(int k, int n) {
+        CombinationSumIndex index = CombinationSumIndex.digits1To9();
+        int count = index.count(k, n);
+        List<List<Integer>> res = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) res.add(CombinationSumIndex.decode(index.mask(k, n, i)));
+        return res;
+    }
+
+    // the same combinations as a read only view, every get() decodes a new list, nothing is built up front
+    public static List<List<Integer>> combinationSum3View(int k, int n) {
+        return CombinationSumIndex.digits1To9().combinations(k, n);
+    }
+
+    // the same combinations decoded into one IntRows (k ints per combination, no boxing)
+    public static IntRows combinationSum3Ints(int k, int n) {
+        int count = CombinationSumIndex.digits1To9().count(k, n);
+        IntRows res = new IntRows(count, count * k);
+        combinationSum3(k, n, res);
+        return res;
+    }
+
+    // writes the combinations into out (an IntRows, an IntResultStore ...), returns how many there are
+    public static int combinationSum3(int k, int n, IntRowWriter out) {
+        CombinationSumIndex index = CombinationSumIndex.digits1To9();
+        int count = index.count(k, n);
+        IntList digits = new IntList();
+        for (int i = 0; i < count; i++) {
+            digits.clear();
+            for (int rest = index.mask(k, n, i); rest != 0; rest &= rest - 1) digits.add(Integer.numberOfTrailingZeros(rest) + 1);
+            out.add(digits);
+        }
+        return count;
+    }
+
+    public static List<List<Integer>> combinationSum3Backtracking(int k, int n) {
         //your code goes here
 
         List<List<Integer>> res = new ArrayList<>();
         List<Integer> current = new ArrayList<>();
-        findFeasibleCombination(1, res, current ,n, k);
+        SearchTrace.run("CombinationSum3", () -> findFeasibleCombination(1, res, current ,n, k));
 //        LessOptimalFindFeasibleCombination(0,nums, res, current ,n, k);
         return res;
     }
 
     private static void findFeasibleCombination(int last, List<List<Integer>> res, List<Integer> current, int target, int k) {
+        SearchTrace.node(current.size());
         if(target==0 && current.size()==k){
             res.add(new ArrayList<>(current));
+            SearchTrace.solution(SearchTrace.listBytes(k));
             return;
         }
-        if(target<0 || current.size()>k)
+        if(target<0 || current.size()>k) {
+            SearchTrace.prune();
             return;
+        }
 
         // either we add element and then explore the possibilities or we dont add the element and explore the possibilities
         // WAY 1:
@@ -45,7 +92,10 @@ public class CombinationSum3 {
                 findFeasibleCombination(i+1, res, current ,target-i, k);
                 current.remove(current.size()-1);
             }
-            else break;
+            else {
+                SearchTrace.prune();
+                break;
+            }
         }
 
 
@@ -82,5 +132,6 @@ public class CombinationSum3 {
             }
             System.out.println();
         }
+        System.out.println("Primitive: " + combinationSum3Ints(k, n));
     }
 }
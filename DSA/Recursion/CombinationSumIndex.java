@@ -0,0 +1,212 @@
+package DSA.Recursion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/*
+ * Precomputed answers of CombinationSum3 for every (k, n) at once.
+ *
+ * With digits 1..D there are only 2^D subsets (512 for D = 9), so instead of backtracking on every call,
+ * all subsets are generated once and bucketed by (size, sum):
+ *
+ *  •	masks:   every subset as a bitmask (bit d-1 set = digit d used), grouped by bucket
+ *  •	offsets: bucket b = size * (maxSum + 1) + sum owns masks[offsets[b] .. offsets[b + 1])
+ *
+ * (the CSR layout of sparse matrices). A query is two array reads, the lists are only built when
+ * an element of the returned view is read.
+ *
+ * Inside a bucket the masks are in the same (lexicographic) order the backtracking produces them,
+ * because they are generated by the same "for i = last..D, take i, recurse" walk and the bucketing is stable.
+ *
+ * D goes up to 20: 2^20 masks, 4 MB. save() / load() keep a snapshot on disk so a service does not
+ * rebuild it at startup; masks are written with 2 bytes each when D <= 16.
+ */
+public class CombinationSumIndex {
+
+    public static void main(String[] args) throws IOException {
+        CombinationSumIndex index = digits1To9();
+        System.out.println("k=3, n=7: " + index.combinations(3, 7));
+        System.out.println("k=3, n=9: " + index.combinations(3, 9));
+        System.out.println("k=4, n=1: " + index.combinations(4, 1));
+
+        Path file = Files.createTempFile("combinations", ".idx");
+        file.toFile().deleteOnExit();
+        long start = System.nanoTime();
+        CombinationSumIndex large = build(20);
+        long built = System.nanoTime();
+        large.save(file);
+        CombinationSumIndex loaded = load(file);
+        long end = System.nanoTime();
+        System.out.printf("Digits 1..20: %d subsets, build %.1f ms, load %.1f ms, snapshot %d bytes%n",
+                loaded.masks.length, (built - start) / 1e6, (end - built) / 1e6, Files.size(file));
+        System.out.println("k=10, n=100: " + loaded.count(10, 100) + " combinations, first " + loaded.combinations(10, 100).get(0));
+    }
+
+    public static final int MAX_DIGIT = 20;
+    private static final int MAGIC = 0x43534958; // "CSIX"
+
+    private final int maxDigit;
+    private final int maxSum;
+    private final int[] offsets;
+    private final int[] masks;
+
+    private CombinationSumIndex(int maxDigit, int[] offsets, int[] masks) {
+        this.maxDigit = maxDigit;
+        this.maxSum = maxDigit * (maxDigit + 1) / 2;
+        this.offsets = offsets;
+        this.masks = masks;
+    }
+
+    // built on first use, the holder class is only initialized when digits1To9() is called
+    private static class Digits1To9 {
+        static final CombinationSumIndex INDEX = build(9);
+    }
+
+    public static CombinationSumIndex digits1To9() {
+        return Digits1To9.INDEX;
+    }
+
+    public static CombinationSumIndex build(int maxDigit) {
+        if (maxDigit < 1 || maxDigit > MAX_DIGIT) throw new IllegalArgumentException("maxDigit must be in 1.." + MAX_DIGIT);
+        int maxSum = maxDigit * (maxDigit + 1) / 2;
+
+        // all subsets in backtracking (lexicographic) order, the empty one first
+        int[] ordered = new int[1 << maxDigit];
+        generate(1, 0, maxDigit, ordered, new int[]{1});
+
+        // counting sort by bucket, stable so the order inside a bucket is kept
+        int[] offsets = new int[(maxDigit + 1) * (maxSum + 1) + 1];
+        for (int mask : ordered) offsets[bucket(mask, maxSum) + 1]++;
+        for (int b = 0; b + 1 < offsets.length; b++) offsets[b + 1] += offsets[b];
+        int[] next = offsets.clone();
+        int[] masks = new int[ordered.length];
+        for (int mask : ordered) masks[next[bucket(mask, maxSum)]++] = mask;
+        return new CombinationSumIndex(maxDigit, offsets, masks);
+    }
+
+    private static void generate(int last, int mask, int maxDigit, int[] ordered, int[] count) {
+        for (int digit = last; digit <= maxDigit; digit++) {
+            int next = mask | 1 << (digit - 1);
+            ordered[count[0]++] = next;
+            generate(digit + 1, next, maxDigit, ordered, count);
+        }
+    }
+
+    private static int bucket(int mask, int maxSum) {
+        return Integer.bitCount(mask) * (maxSum + 1) + sum(mask);
+    }
+
+    static int sum(int mask) {
+        int sum = 0;
+        for (int rest = mask; rest != 0; rest &= rest - 1) sum += Integer.numberOfTrailingZeros(rest) + 1;
+        return sum;
+    }
+
+    public int maxDigit() {
+        return maxDigit;
+    }
+
+    public int count(int k, int n) {
+        int b = bucketOf(k, n);
+        return b < 0 ? 0 : offsets[b + 1] - offsets[b];
+    }
+
+    // i-th combination of k distinct digits summing to n, as a bitmask
+    public int mask(int k, int n, int i) {
+        int b = bucketOf(k, n);
+        if (b < 0 || i < 0 || i >= offsets[b + 1] - offsets[b]) throw new IndexOutOfBoundsException(i);
+        return masks[offsets[b] + i];
+    }
+
+    /*
+    Read only view, every get() decodes one mask into a new list of digits,
+    so a caller that only needs the count or the first few combinations never builds the rest.
+     */
+    public List<List<Integer>> combinations(int k, int n) {
+        int b = bucketOf(k, n);
+        int from = b < 0 ? 0 : offsets[b], to = b < 0 ? 0 : offsets[b + 1];
+        return new MaskList(masks, from, to);
+    }
+
+    private int bucketOf(int k, int n) {
+        if (k < 0 || k > maxDigit || n < 0 || n > maxSum) return -1;
+        return k * (maxSum + 1) + n;
+    }
+
+    public static List<Integer> decode(int mask) {
+        List<Integer> digits = new ArrayList<>(Integer.bitCount(mask));
+        for (int rest = mask; rest != 0; rest &= rest - 1) digits.add(Integer.numberOfTrailingZeros(rest) + 1);
+        return digits;
+    }
+
+    private static final class MaskList extends AbstractList<List<Integer>> implements RandomAccess {
+        private final int[] masks;
+        private final int from, to;
+
+        MaskList(int[] masks, int from, int to) {
+            this.masks = masks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public List<Integer> get(int index) {
+            if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException(index);
+            return decode(masks[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /*
+    Snapshot layout, little-endian:
+        magic, maxDigit, offsets.length, offsets[], then masks[] as shorts (maxDigit <= 16) or ints
+     */
+    public void save(Path file) throws IOException {
+        int maskWidth = maxDigit <= 16 ? 2 : 4;
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 4 * offsets.length + maskWidth * masks.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(maxDigit).putInt(offsets.length);
+        buffer.asIntBuffer().put(offsets);
+        buffer.position(buffer.position() + 4 * offsets.length);
+        if (maskWidth == 2) {
+            for (int mask : masks) buffer.putShort((short) mask);
+        } else {
+            buffer.asIntBuffer().put(masks);
+        }
+        Files.write(file, buffer.array());
+    }
+
+    public static CombinationSumIndex load(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) throw new IOException("Not a combination index: " + file);
+        int maxDigit = buffer.getInt();
+        int[] offsets = new int[buffer.getInt()];
+        int maxSum = maxDigit * (maxDigit + 1) / 2;
+        if (maxDigit < 1 || maxDigit > MAX_DIGIT || offsets.length != (maxDigit + 1) * (maxSum + 1) + 1) {
+            throw new IOException("Corrupt combination index header: " + file);
+        }
+        int[] masks = new int[1 << maxDigit];
+        int maskWidth = maxDigit <= 16 ? 2 : 4;
+        if (buffer.remaining() != 4L * offsets.length + (long) maskWidth * masks.length) {
+            throw new IOException("Truncated combination index: " + file);
+        }
+        buffer.asIntBuffer().get(offsets);
+        buffer.position(buffer.position() + 4 * offsets.length);
+        if (maskWidth == 2) {
+            for (int i = 0; i < masks.length; i++) masks[i] = buffer.getShort() & 0xFFFF;
+        } else {
+            buffer.asIntBuffer().get(masks);
+        }
+        return new CombinationSumIndex(maxDigit, offsets, masks);
+    }
+}
@@ -1,5 +1,9 @@
 package DSA.Recursion;
 
+import DSA.PrimitiveCollections.IntList;
+import DSA.PrimitiveCollections.IntRowWriter;
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,6 +15,7 @@ public class CombinationSumRepeatAllowed {
         int target = 7;
         List<List<Integer>> result = combinationSum(candidates, target);
         System.out.println(result);
+        System.out.println("Primitive: " + combinationSumInts(candidates, target));
     }
 
 
@@ -19,22 +24,26 @@ public class CombinationSumRepeatAllowed {
         int n = nums.length;
         List<Integer> current = new ArrayList<>();
         List<List<Integer>>  res = new ArrayList<>();
-        whereSumExist(0, res, current, nums, n , k);
+        SearchTrace.run("CombinationSumRepeatAllowed", () -> whereSumExist(0, res, current, nums, n , k));
         return res;
     }
 
     private static void whereSumExist(int index, List<List<Integer>> res, List<Integer> current, int[] nums, int n, int k){
+        SearchTrace.node(current.size());
 
         // if k is zero means we have the list with the target sum
         if(k==0){
             res.add(new ArrayList<>(current));
+            SearchTrace.solution(SearchTrace.integerListBytes(current.size()));
             return;
         }
 
         // check if k is negative or we have reached the end of the array
         // in both the cases we dont need to explore that possibility further
-        if(k<0 || index == n)
+        if(k<0 || index == n) {
+            SearchTrace.prune();
             return;
+        }
 
         // include the current element
         // not incrementing the index because we can use the same element again
@@ -46,4 +55,33 @@ public class CombinationSumRepeatAllowed {
         current.remove(current.size()-1);
         whereSumExist(index+1, res, current, nums, n, k);
     }
+
+    // same combinations in the same order, as one IntRows with an IntList as the backtracking stack
+    public static IntRows combinationSumInts(int[] nums, int k) {
+        IntRows res = new IntRows();
+        combinationSum(nums, k, res);
+        return res;
+    }
+
+    // writes the combinations into out (an IntRows, an IntResultStore ...), returns how many there are
+    public static long combinationSum(int[] nums, int k, IntRowWriter out) {
+        return SearchTrace.call("CombinationSumRepeatAllowed", () -> whereSumExist(0, out, new IntList(), nums, k));
+    }
+
+    private static long whereSumExist(int index, IntRowWriter out, IntList current, int[] nums, int k) {
+        SearchTrace.node(current.size());
+        if (k == 0) {
+            out.add(current);
+            SearchTrace.solution(SearchTrace.intRowBytes(current.size()));
+            return 1;
+        }
+        if (k < 0 || index == nums.length) {
+            SearchTrace.prune();
+            return 0;
+        }
+        current.push(nums[index]);
+        long count = whereSumExist(index, out, current, nums, k - nums[index]);
+        current.pop();
+        return count + whereSumExist(index + 1, out, current, nums, k);
+    }
 }
@@ -1,5 +1,9 @@
 package DSA.Recursion;
 
+import DSA.PrimitiveCollections.IntList;
+import DSA.PrimitiveCollections.IntRowWriter;
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.*;
 
 public class CombinationSumRepeatConstrainUnique {
@@ -22,6 +26,7 @@ public class CombinationSumRepeatConstrainUnique {
             }
             System.out.println();
         }
+        System.out.println("Primitive: " + combinationSum2Ints(candidates, target));
     }
 
     public static List<List<Integer>> combinationSum2(int[] nums, int k) {
@@ -30,19 +35,23 @@ public class CombinationSumRepeatConstrainUnique {
         Arrays.sort(nums);
         List<Integer> current = new ArrayList<>();
         List<List<Integer>>  res = new ArrayList<>();
-        whereSumExist(0, res, current, nums, n , k);
+        SearchTrace.run("CombinationSumRepeatConstrainUnique", () -> whereSumExist(0, res, current, nums, n , k));
         return res;
     }
 
     private static void whereSumExist(int index, List<List<Integer>> res, List<Integer> current, int[] nums , int n, int k){
+        SearchTrace.node(current.size());
 
         if(k==0){
-            res.add(new ArrayList(current));
+            res.add(new ArrayList<>(current));
+            SearchTrace.solution(SearchTrace.integerListBytes(current.size()));
             return;
         }
 
-        if(k<0 || index == n)
+        if(k<0 || index == n) {
+            SearchTrace.prune();
             return;
+        }
 
         current.add(nums[index]);
         whereSumExist(index+1, res, current, nums, n, k-nums[index]);
@@ -64,5 +73,41 @@ public class CombinationSumRepeatConstrainUnique {
         }
     }
 
+    /*
+    Same combinations in the same order, as one IntRows with an IntList as the backtracking stack.
+    Sorts a copy, nums is left as it is (combinationSum2 sorts the caller's array).
+     */
+    public static IntRows combinationSum2Ints(int[] nums, int k) {
+        IntRows res = new IntRows();
+        combinationSum2(nums, k, res);
+        return res;
+    }
 
+    // writes the combinations into out (an IntRows, an IntResultStore ...), returns how many there are
+    public static long combinationSum2(int[] nums, int k, IntRowWriter out) {
+        int[] sorted = nums.clone();
+        Arrays.sort(sorted);
+        return SearchTrace.call("CombinationSumRepeatConstrainUnique", () -> whereSumExist(0, out, new IntList(), sorted, k));
+    }
+
+    private static long whereSumExist(int index, IntRowWriter out, IntList current, int[] nums, int k) {
+        SearchTrace.node(current.size());
+        if (k == 0) {
+            out.add(current);
+            SearchTrace.solution(SearchTrace.intRowBytes(current.size()));
+            return 1;
+        }
+        if (k < 0 || index == nums.length) {
+            SearchTrace.prune();
+            return 0;
+        }
+        current.push(nums[index]);
+        long count = whereSumExist(index + 1, out, current, nums, k - nums[index]);
+        current.pop();
+        // skip the duplicates of nums[index], like above
+        int next = index + 1;
+        while (next < nums.length && nums[next] == nums[index]) next++;
+        if (next < nums.length) count += whereSumExist(next, out, current, nums, k);
+        return count;
+    }
 }
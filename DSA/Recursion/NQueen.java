@@ -2,6 +2,8 @@ package DSA.Recursion;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class NQueen {
 
@@ -17,14 +19,22 @@ public class NQueen {
             }
             System.out.println();
         }
+
+        SearchBudget.Result<List<List<String>>> partial = nq.solveNQueens(12, SearchBudget.withTimeout(20, TimeUnit.MILLISECONDS));
+        System.out.println("12-Queens solutions found: " + partial.value().size() + ", truncated: " + partial.truncated());
     }
 
 
     public List<List<String>> solveNQueens(int n) {
+        return solveNQueens(n, SearchBudget.unlimited()).value();
+    }
+
+    // returns the boards found before the budget ran out
+    public SearchBudget.Result<List<List<String>>> solveNQueens(int n, SearchBudget budget) {
         //your code goes here
 
-        List<List<String>> res = new ArrayList();
-        List<String> board = new ArrayList();
+        List<List<String>> res = new ArrayList<>();
+        List<String> board = new ArrayList<>();
 
         char[] charArr = new char[n];
         for(int i=0;i<n;i++)
@@ -32,8 +42,8 @@ public class NQueen {
         for(int i=0;i<n;i++)
             board.add(new String(charArr));
 
-        validNQueens(0, board, res);
-        return res;
+        SearchTrace.run("NQueen", () -> validNQueens(0, board, res, budget));
+        return budget.result(res);
     }
 
 
@@ -44,10 +54,14 @@ public class NQueen {
     if we reach the end of the board, we will add the current board to the result
     backtrack and remove the 'Q' from that location and move to the next column
      */
-    private void validNQueens(int row, List<String> board, List<List<String>> res){
+    private void validNQueens(int row, List<String> board, List<List<String>> res, SearchBudget budget){
+        if(budget.exhausted())
+            return;
+        SearchTrace.node(row);
 
         if(row==board.size()){
-            res.add(new ArrayList(board));
+            res.add(new ArrayList<>(board));
+            SearchTrace.solution(SearchTrace.listBytes(board.size()));
             return ;
         }
 
@@ -63,13 +77,51 @@ public class NQueen {
                 board.set(row, new String(charArr));
 
                 // recursive call to the next row as there exist a 'Q' at that location
-                validNQueens(row+1, board, res);
+                validNQueens(row+1, board, res, budget);
 
                 // backtracking if there does not exist a 'Q' at that location
                 charArr[column] = '.';
                 board.set(row, new String(charArr));
             }
+            else SearchTrace.prune();
+        }
+    }
+
+    /*
+    Streams every solution as n bytes (byte r = column of the queen in row r) instead of building string boards,
+    in the same order as solveNQueens. The array is reused for the next solution, so the consumer must copy it
+    (QueenSolutionFile.Writer copies it into the file). Returns the number of solutions.
+
+    Columns and both diagonals are bitmasks, a placement check is one AND instead of three scans of the board.
+    The diagonal masks are shifted by one per row, so they always describe the attacked squares of the current row.
+     */
+    public static long forEachSolution(int n, Consumer<byte[]> consumer) {
+        return forEachSolution(n, SearchBudget.unlimited(), consumer).value();
+    }
+
+    // stops when the budget runs out, the count is then the number of solutions streamed so far
+    public static SearchBudget.Result<Long> forEachSolution(int n, SearchBudget budget, Consumer<byte[]> consumer) {
+        if (n < 1 || n > 32) throw new IllegalArgumentException("n must be between 1 and 32");
+        return budget.result(place(0, n, 0, 0, 0, new byte[n], consumer, budget));
+    }
+
+    private static long place(int row, int n, int cols, int leftDiagonals, int rightDiagonals, byte[] columns,
+                              Consumer<byte[]> consumer, SearchBudget budget) {
+        if (budget.exhausted())
+            return 0;
+        if (row == n) {
+            consumer.accept(columns);
+            return 1;
+        }
+        long count = 0;
+        int all = n == 32 ? -1 : (1 << n) - 1;
+        // lowest free column first, the same order as the column loop of validNQueens
+        for (int free = ~(cols | leftDiagonals | rightDiagonals) & all; free != 0; free &= free - 1) {
+            int bit = free & -free;
+            columns[row] = (byte) Integer.numberOfTrailingZeros(bit);
+            count += place(row + 1, n, cols | bit, (leftDiagonals | bit) << 1, (rightDiagonals | bit) >>> 1, columns, consumer, budget);
         }
+        return count;
     }
 
     private boolean isPlacementPossible(List<String> board, int row, int column){
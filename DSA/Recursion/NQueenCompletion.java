@@ -0,0 +1,296 @@
+package DSA.Recursion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ * N-Queens from a partial board: queens[r] = column of the queen already placed in row r, or -1 if row r is free.
+ * The placed queens can be in any rows, not only the first ones, so the column / diagonal state can not be built
+ * by walking down from row 0 the way NQueen does; it is seeded from all placed queens up front and the search
+ * only visits the free rows.
+ *
+ *  1.	countCompletions / forEachCompletion (n <= 32): bitmask search over the free rows, in row order.
+ *      The diagonals are indexed absolutely (r + c and c - r + n - 1, both < 63, so one long each) instead of
+ *      being shifted row by row, because rows are skipped; the free columns of row r are
+ *          ~(cols | d1 >>> r | d2 >>> (n - 1 - r)) & all
+ *  2.	findCompletion (any n, answers N = 100, 1000 in milliseconds): one completion, backtracking with
+ *          •	most constrained row first: the free row with the fewest safe squares (a row with 0 fails at once)
+ *          •	center-first columns: a queen in the middle leaves the rows far away more room on the edges
+ *      The safe square count of every free row is updated incrementally: a queen attacks at most 3 squares
+ *      of each other row, so a placement is O(rows) and choosing the next row is one scan.
+ *      Backtracking search times are heavy tailed: for a few n (47, 101, 150 ...) the fixed order runs into a
+ *      dead subtree it never leaves. So an attempt is cut after a node limit and the search restarts with random
+ *      tie breaking between equally constrained rows and a locally shuffled column order. Many short attempts beat
+ *      a few long ones (the limit grows by a quarter per attempt, doubling was 2x slower over n = 4..600);
+ *      the limit eventually covers the whole tree, so "no completion" is still a proof.
+ *
+ * Placed queens that attack each other have no completion (count 0, no solution), a column outside 0..n-1 throws.
+ */
+public class NQueenCompletion {
+
+    public static void main(String[] args) {
+        int[] queens = new int[8];
+        Arrays.fill(queens, -1);
+        queens[3] = 0;
+        queens[6] = 4;
+        System.out.println("8-Queens with (3,0) and (6,4) placed: " + countCompletions(queens) + " completions");
+        int[] first = findCompletion(queens, SearchBudget.unlimited()).value();
+        for (String row : board(first)) System.out.println(row);
+
+        for (int n : new int[]{100, 1000}) {
+            queens = new int[n];
+            Arrays.fill(queens, -1);
+            queens[n / 2] = 0;
+            queens[n - 1] = n / 3;
+            long start = System.nanoTime();
+            SearchBudget.Result<int[]> result = findCompletion(queens, SearchBudget.withTimeout(5, TimeUnit.SECONDS));
+            System.out.printf("%d-Queens with 2 placed: %s in %.1f ms%n", n,
+                    result.value() != null ? "completed" : result.truncated() ? "timed out" : "no completion",
+                    (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    public static long countCompletions(int[] queens) {
+        return forEachCompletion(queens, columns -> { });
+    }
+
+    // the completions counted before the budget ran out
+    public static SearchBudget.Result<Long> countCompletions(int[] queens, SearchBudget budget) {
+        return budget.result(forEachCompletion(queens, columns -> { }, budget));
+    }
+
+    /*
+    Every completion as n bytes (byte r = column of row r, placed rows included), the array is reused,
+    so the consumer must copy it. Returns the number of completions.
+     */
+    public static long forEachCompletion(int[] queens, Consumer<byte[]> consumer) {
+        return forEachCompletion(queens, consumer, SearchBudget.unlimited());
+    }
+
+    private static long forEachCompletion(int[] queens, Consumer<byte[]> consumer, SearchBudget budget) {
+        int n = queens.length;
+        if (n < 1 || n > 32) throw new IllegalArgumentException("n must be between 1 and 32");
+        checkColumns(queens);
+
+        long cols = 0, d1 = 0, d2 = 0;
+        byte[] columns = new byte[n];
+        int[] freeRows = new int[n];
+        int free = 0;
+        for (int r = 0; r < n; r++) {
+            int c = queens[r];
+            if (c < 0) {
+                freeRows[free++] = r;
+                continue;
+            }
+            long col = 1L << c, diagonal1 = 1L << (r + c), diagonal2 = 1L << (c - r + n - 1);
+            if ((cols & col) != 0 || (d1 & diagonal1) != 0 || (d2 & diagonal2) != 0) return 0;
+            cols |= col;
+            d1 |= diagonal1;
+            d2 |= diagonal2;
+            columns[r] = (byte) c;
+        }
+        return complete(0, Arrays.copyOf(freeRows, free), n, cols, d1, d2, columns, consumer, budget);
+    }
+
+    private static long complete(int i, int[] freeRows, int n, long cols, long d1, long d2, byte[] columns,
+                                 Consumer<byte[]> consumer, SearchBudget budget) {
+        if (budget.exhausted()) return 0;
+        if (i == freeRows.length) {
+            consumer.accept(columns);
+            return 1;
+        }
+        int r = freeRows[i];
+        long all = (1L << n) - 1;
+        long count = 0;
+        for (long free = ~(cols | d1 >>> r | d2 >>> (n - 1 - r)) & all; free != 0; free &= free - 1) {
+            int c = Long.numberOfTrailingZeros(free);
+            columns[r] = (byte) c;
+            count += complete(i + 1, freeRows, n, cols | 1L << c, d1 | 1L << (r + c), d2 | 1L << (c - r + n - 1), columns, consumer, budget);
+        }
+        return count;
+    }
+
+    /*
+    One completion (queens[] is not modified), value() is null if there is none or the budget ran out first
+    (truncated() tells which).
+     */
+    public static SearchBudget.Result<int[]> findCompletion(int[] queens, SearchBudget budget) {
+        if (queens.length == 0) throw new IllegalArgumentException("n must be at least 1");
+        checkColumns(queens);
+        Board board = new Board(queens.length);
+        for (int r = 0; r < queens.length; r++) {
+            if (queens[r] < 0) continue;
+            if (!board.safe(r, queens[r])) return budget.result(null);
+            board.place(r, queens[r]);
+        }
+        for (long attempt = 0, limit = 2L * queens.length + 64; ; attempt++, limit += limit / 4) {
+            board.restart(attempt, limit);
+            if (board.search(budget)) return budget.result(board.queens.clone());
+            // a search that was not cut explored everything: there is no completion
+            if (!board.cut || budget.truncated()) return budget.result(null);
+        }
+    }
+
+    private static void checkColumns(int[] queens) {
+        for (int r = 0; r < queens.length; r++) {
+            if (queens[r] < -1 || queens[r] >= queens.length) {
+                throw new IllegalArgumentException("Column " + queens[r] + " in row " + r + " is outside the board");
+            }
+        }
+    }
+
+    // the board in the same List<String> form NQueen.solveNQueens returns
+    public static List<String> board(int[] columns) {
+        List<String> board = new ArrayList<>(columns.length);
+        char[] row = new char[columns.length];
+        for (int column : columns) {
+            Arrays.fill(row, '.');
+            row[column] = 'Q';
+            board.add(new String(row));
+        }
+        return board;
+    }
+
+    private static final class Board {
+        final int n;
+        final int[] queens;
+        final boolean[] cols, d1, d2;
+        // safe squares left in every free row
+        final int[] safeCount;
+        // free rows are freeRows[0 .. remaining)
+        final int[] freeRows;
+        int remaining;
+        // columns from the middle outwards (shuffled inside small blocks after a restart)
+        final int[] columnOrder;
+        // restart state: nodes of this attempt, its limit, whether it was cut, the tie breaker (null = first attempt)
+        long nodes, nodeLimit;
+        boolean cut;
+        SplittableRandom random;
+
+        Board(int n) {
+            this.n = n;
+            queens = new int[n];
+            Arrays.fill(queens, -1);
+            cols = new boolean[n];
+            d1 = new boolean[2 * n - 1];
+            d2 = new boolean[2 * n - 1];
+            safeCount = new int[n];
+            Arrays.fill(safeCount, n);
+            freeRows = new int[n];
+            for (int r = 0; r < n; r++) freeRows[r] = r;
+            remaining = n;
+            columnOrder = new int[n];
+            centerFirst();
+        }
+
+        private void centerFirst() {
+            for (int i = 0, middle = (n - 1) / 2; i < n; i++) {
+                columnOrder[i] = middle + (i % 2 == 0 ? -(i / 2) : (i + 1) / 2);
+            }
+        }
+
+        /*
+        Every attempt after the first starts again from the center-first order and shuffles each block of
+        window consecutive positions on its own, so no column ends up more than window - 1 places away from
+        where center-first puts it, however many restarts there were.
+         */
+        void restart(long attempt, long limit) {
+            nodes = 0;
+            nodeLimit = limit;
+            cut = false;
+            if (attempt == 0) return;
+            random = new SplittableRandom(attempt);
+            centerFirst();
+            int window = Math.max(2, n / 8);
+            for (int from = 0; from < n; from += window) {
+                for (int i = Math.min(n, from + window) - 1; i > from; i--) {
+                    int j = from + random.nextInt(i - from + 1), c = columnOrder[i];
+                    columnOrder[i] = columnOrder[j];
+                    columnOrder[j] = c;
+                }
+            }
+        }
+
+        boolean safe(int r, int c) {
+            return !cols[c] && !d1[r + c] && !d2[c - r + n - 1];
+        }
+
+        void place(int r, int c) {
+            for (int i = 0; i < remaining; i++) {
+                int row = freeRows[i];
+                if (row != r) safeCount[row] -= attackedSafeSquares(r, c, row);
+            }
+            cols[c] = d1[r + c] = d2[c - r + n - 1] = true;
+            queens[r] = c;
+            removeFreeRow(r);
+        }
+
+        void remove(int r, int c) {
+            cols[c] = d1[r + c] = d2[c - r + n - 1] = false;
+            queens[r] = -1;
+            for (int i = 0; i < remaining; i++) {
+                int row = freeRows[i];
+                safeCount[row] += attackedSafeSquares(r, c, row);
+            }
+            // search() removes rows from the end, so putting them back in reverse keeps freeRows consistent
+            remaining++;
+        }
+
+        // how many safe squares of `row` a queen on (r, c) attacks: its column and the two diagonals
+        private int attackedSafeSquares(int r, int c, int row) {
+            int distance = row - r, count = 0;
+            if (safe(row, c)) count++;
+            if (c + distance >= 0 && c + distance < n && safe(row, c + distance)) count++;
+            if (c - distance >= 0 && c - distance < n && safe(row, c - distance)) count++;
+            return count;
+        }
+
+        private void removeFreeRow(int r) {
+            for (int i = 0; i < remaining; i++) {
+                if (freeRows[i] == r) {
+                    freeRows[i] = freeRows[remaining - 1];
+                    freeRows[remaining - 1] = r;
+                    remaining--;
+                    return;
+                }
+            }
+        }
+
+        boolean search(SearchBudget budget) {
+            if (remaining == 0) return true;
+            if (budget.exhausted()) return false;
+            if (++nodes > nodeLimit) {
+                cut = true;
+                return false;
+            }
+
+            int best = 0, ties = 1;
+            for (int i = 1; i < remaining; i++) {
+                int difference = safeCount[freeRows[i]] - safeCount[freeRows[best]];
+                if (difference < 0) {
+                    best = i;
+                    ties = 1;
+                } else if (difference == 0 && random != null && random.nextInt(++ties) == 0) {
+                    // uniform choice among the equally constrained rows, one pass (reservoir sampling)
+                    best = i;
+                }
+            }
+            int r = freeRows[best];
+            if (safeCount[r] == 0) return false;
+
+            for (int c : columnOrder) {
+                if (!safe(r, c)) continue;
+                place(r, c);
+                if (search(budget)) return true;
+                remove(r, c);
+                // unwind a stopped attempt without trying the other columns on every level
+                if (cut || budget.truncated()) return false;
+            }
+            return false;
+        }
+    }
+}
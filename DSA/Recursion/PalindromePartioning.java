@@ -1,7 +1,15 @@
 package DSA.Recursion;
 
+import DSA.PrimitiveCollections.IntRowWriter;
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 public class PalindromePartioning {
 
@@ -12,19 +20,31 @@ public class PalindromePartioning {
         for (List<String> partition : result) {
             System.out.println(partition);
         }
+        System.out.println("As cuts: " + partitionCuts(s));
+
+        // a string of 24 equal characters has 2^23 partitions, they are streamed as cut arrays and never stored
+        String a24 = "a".repeat(24);
+        LongAdder singleParts = new LongAdder();
+        long start = System.nanoTime();
+        long streamed = forEachPartitionParallel(a24, cuts -> {
+            if (cuts.length == 24) singleParts.increment();
+        });
+        System.out.printf("Partitions of a^24: %d streamed in %.2f s (%d of single letters), counted: %d%n",
+                streamed, (System.nanoTime() - start) / 1e9, singleParts.sum(), countPartitions(a24));
     }
 
-    private static List<List<String>> partition(String s) {
+    public static List<List<String>> partition(String s) {
         List<List<String>> rs = new ArrayList<>();
         List<String> current = new ArrayList<>();
-        findAllPartition(0, s, rs, current);
+        SearchTrace.run("PalindromePartioning", () -> findAllPartition(0, s, rs, current));
         return rs;
     }
 
     private static void findAllPartition(int index, String s, List<List<String>> rs, List<String> current) {
+        SearchTrace.node(current.size());
         if(index == s.length()){
-            System.out.println(current);
             rs.add(new ArrayList<>(current));
+            SearchTrace.solution(SearchTrace.listBytes(current.size()));
             return;
         }
 
@@ -50,6 +70,7 @@ public class PalindromePartioning {
                 findAllPartition(i+1, s, rs, current);
                 current.remove(current.size()-1);
             }
+            else SearchTrace.prune();
         }
 
     }
@@ -65,4 +86,149 @@ public class PalindromePartioning {
          return true;
     }
 
+    /*
+    isPalindrome[i][j] = s[i..j] is a palindrome, filled from the shorter substrings to the longer ones:
+    s[i..j] is a palindrome if s[i] == s[j] and the inside s[i+1..j-1] is one.
+    O(n^2) once, instead of an O(n) check for every candidate part. Read only after this, so it is shared by all threads.
+     */
+    static boolean[][] palindromeTable(String s) {
+        int n = s.length();
+        boolean[][] isPalindrome = new boolean[n][n];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i; j < n; j++) {
+                isPalindrome[i][j] = s.charAt(i) == s.charAt(j) && (j - i < 2 || isPalindrome[i + 1][j - 1]);
+            }
+        }
+        return isPalindrome;
+    }
+
+    /*
+    Counting does not need the partitions themselves:
+    count[i] = number of partitions of s[i..] = sum of count[j + 1] over every palindrome s[i..j], count[n] = 1.
+    O(n^2), throws ArithmeticException when the count does not fit in a long (e.g. "a" repeated 65 times).
+     */
+    public static long countPartitions(String s) {
+        int n = s.length();
+        boolean[][] isPalindrome = palindromeTable(s);
+        long[] count = new long[n + 1];
+        count[n] = 1;
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i; j < n; j++) {
+                if (isPalindrome[i][j]) count[i] = Math.addExact(count[i], count[j + 1]);
+            }
+        }
+        return count[0];
+    }
+
+    /*
+    Every partition as its cut array (cuts[p] = end, exclusive, of part p, "aab" -> [1, 2, 3] and [2, 3]),
+    in the same order partition() returns them. A partition is its cuts, so a row of ints per result
+    instead of a list of substrings; partitionCuts(s, out) writes them straight into an IntRows or IntResultStore.
+     */
+    public static IntRows partitionCuts(String s) {
+        IntRows res = new IntRows();
+        partitionCuts(s, res);
+        return res;
+    }
+
+    // returns the number of partitions written
+    public static long partitionCuts(String s, IntRowWriter out) {
+        return SearchTrace.call("PalindromePartioning", () -> writeCuts(palindromeTable(s), 0, new int[s.length()], 0, out));
+    }
+
+    private static long writeCuts(boolean[][] isPalindrome, int start, int[] cuts, int parts, IntRowWriter out) {
+        SearchTrace.node(parts);
+        int n = isPalindrome.length;
+        if (start == n) {
+            out.add(cuts, 0, parts);
+            SearchTrace.solution(SearchTrace.intRowBytes(parts));
+            return 1;
+        }
+        long count = 0;
+        for (int end = start; end < n; end++) {
+            if (isPalindrome[start][end]) {
+                cuts[parts] = end + 1;
+                count += writeCuts(isPalindrome, end + 1, cuts, parts + 1, out);
+            } else SearchTrace.prune();
+        }
+        return count;
+    }
+
+    /*
+    PARALLEL ENUMERATION
+
+        Every partition is given to the consumer as its cut array: cuts[p] = end (exclusive) of part p,
+        e.g. "aab" -> [1, 2, 3] for a|a|b and [2, 3] for aa|b. The array belongs to the consumer.
+        The consumer is called from several threads, so it must be thread safe.
+
+        1.	A fork-join task owns the cuts made so far, and forks one task per palindromic first part of
+            what is left, so the split happens on the first cut position of every suffix.
+        2.	Once fewer than SPLIT_LENGTH characters are left, the rest is enumerated sequentially
+            (a suffix of 16 characters has at most 2^15 partitions, big enough for a task, small enough to balance).
+        3.	The counts of the tasks are added up on join, the return value is the number of partitions streamed.
+     */
+    static final int SPLIT_LENGTH = 16;
+
+    public static long forEachPartitionParallel(String s, Consumer<int[]> consumer) {
+        if (s.isEmpty()) {
+            consumer.accept(new int[0]);
+            return 1;
+        }
+        boolean[][] isPalindrome = palindromeTable(s);
+        return ForkJoinPool.commonPool().invoke(new PartitionTask(isPalindrome, consumer, 0, new int[s.length()], 0));
+    }
+
+    static final class PartitionTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean[][] isPalindrome;
+        // a ForkJoinTask is Serializable, but these tasks stay inside one pool, the consumer is never written out
+        private final transient Consumer<int[]> consumer;
+        private final int start;
+        private final int[] cuts;
+        private final int parts;
+
+        PartitionTask(boolean[][] isPalindrome, Consumer<int[]> consumer, int start, int[] cuts, int parts) {
+            this.isPalindrome = isPalindrome;
+            this.consumer = consumer;
+            this.start = start;
+            this.cuts = cuts;
+            this.parts = parts;
+        }
+
+        @Override
+        protected Long compute() {
+            int n = isPalindrome.length;
+            if (n - start < SPLIT_LENGTH) return enumerate(start, parts);
+
+            List<PartitionTask> tasks = new ArrayList<>();
+            for (int end = start; end < n; end++) {
+                if (!isPalindrome[start][end]) continue;
+                // every task gets its own copy of the cuts
+                int[] copy = cuts.clone();
+                copy[parts] = end + 1;
+                tasks.add(new PartitionTask(isPalindrome, consumer, end + 1, copy, parts + 1));
+            }
+            long count = 0;
+            for (PartitionTask task : invokeAll(tasks)) count += task.join();
+            return count;
+        }
+
+        // sequential part, cuts[] is owned by this task and overwritten in place
+        private long enumerate(int start, int parts) {
+            int n = isPalindrome.length;
+            if (start == n) {
+                consumer.accept(Arrays.copyOf(cuts, parts));
+                return 1;
+            }
+            long count = 0;
+            for (int end = start; end < n; end++) {
+                if (isPalindrome[start][end]) {
+                    cuts[parts] = end + 1;
+                    count += enumerate(end + 1, parts + 1);
+                }
+            }
+            return count;
+        }
+    }
 }
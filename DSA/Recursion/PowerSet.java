@@ -1,30 +1,85 @@
 package DSA.Recursion;
 
+import DSA.PrimitiveCollections.IntList;
+import DSA.PrimitiveCollections.IntRowWriter;
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class PowerSet {
     public static List<List<Integer>> powerSet(int[] nums) {
+        return powerSet(nums, SearchBudget.unlimited()).value();
+    }
+
+    // stops when the budget runs out and returns the subsets found so far
+    public static SearchBudget.Result<List<List<Integer>>> powerSet(int[] nums, SearchBudget budget) {
         //your code goes here
         List<List<Integer>> res = new ArrayList<>();
         List<Integer> arr = new ArrayList<>();
         int n = nums.length, index =0;
-        calAllSubset(index, arr, res, nums, n);
-        return res;
+        calAllSubset(index, arr, res, nums, n, budget);
+        return budget.result(res);
     }
 
-    private static void calAllSubset(int index, List<Integer>  arr, List<List<Integer>> res, int[] nums, int n){
+    private static void calAllSubset(int index, List<Integer>  arr, List<List<Integer>> res, int[] nums, int n, SearchBudget budget){
+        if(budget.exhausted())
+            return;
         if(index == n) {
             res.add(new ArrayList<>(arr));
             return;
         }
 
-        calAllSubset(index+1, arr, res, nums, n);
+        calAllSubset(index+1, arr, res, nums, n, budget);
         arr.add(nums[index]);
-        calAllSubset(index+1, arr, res, nums, n);
+        calAllSubset(index+1, arr, res, nums, n, budget);
         arr.removeLast();
     }
 
+    /*
+    Same subsets in the same order, without boxing: the current subset is an IntList used as a stack and every
+    subset is appended to one IntRows (4 bytes per element + 4 per subset), instead of a new ArrayList<Integer> each.
+    For n = 20 that is 1M subsets with 10M elements in ~44 MB, see ResultFootprint.
+     */
+    public static IntRows powerSetInts(int[] nums) {
+        int n = nums.length;
+        // nothing stops early here, so exact sizes (2^n subsets, n * 2^(n-1) elements) up to n = 20, 42 MB;
+        // larger sets grow as they go
+        IntRows res = n <= 20 ? new IntRows(1 << n, n << Math.max(0, n - 1)) : new IntRows();
+        powerSet(nums, res, SearchBudget.unlimited());
+        return res;
+    }
+
+    // starts small and grows: a budget can stop after a handful of subsets, so 2^n rows are never reserved up front
+    public static SearchBudget.Result<IntRows> powerSetInts(int[] nums, SearchBudget budget) {
+        IntRows res = new IntRows();
+        powerSet(nums, res, budget);
+        return budget.result(res);
+    }
+
+    /*
+    Writes the subsets (same order) into out, e.g. an IntResultStore that spills to disk for n in the high 20s.
+    Returns how many were written before the budget ran out.
+     */
+    public static SearchBudget.Result<Long> powerSet(int[] nums, IntRowWriter out, SearchBudget budget) {
+        return budget.result(subsets(0, new IntList(nums.length), out, nums, budget));
+    }
+
+    private static long subsets(int index, IntList current, IntRowWriter out, int[] nums, SearchBudget budget) {
+        if (budget.exhausted())
+            return 0;
+        if (index == nums.length) {
+            out.add(current);
+            return 1;
+        }
+        long count = subsets(index + 1, current, out, nums, budget);
+        current.push(nums[index]);
+        count += subsets(index + 1, current, out, nums, budget);
+        current.pop();
+        return count;
+    }
+
     public static void main(String[] args) {
         int[] nums = {1, 2, 3};
         List<List<Integer>> result = powerSet(nums);
@@ -33,6 +88,12 @@ public class PowerSet {
         for (List<Integer> subset : result) {
             System.out.println(subset);
         }
+
+        // 2^25 subsets do not fit in 50 ms, we get a partial result back instead of waiting
+        SearchBudget.Result<List<List<Integer>>> partial = powerSet(new int[25], SearchBudget.withTimeout(50, TimeUnit.MILLISECONDS));
+        System.out.println("Subsets found: " + partial.value().size() + ", truncated: " + partial.truncated());
+
+        System.out.println("Primitive: " + powerSetInts(nums));
     }
 
 
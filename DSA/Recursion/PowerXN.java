@@ -1,6 +1,6 @@
 package DSA.Recursion;
 
-class PowerXN {
+public class PowerXN {
     public static void main(String[] args) {
         System.out.println(myPow(2.0, 10));
     }
@@ -0,0 +1,200 @@
+package DSA.Recursion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+ * Compact file of N-Queens solutions: every solution is N bytes, byte r = column of the queen in row r.
+ *
+ *   header (16 bytes, little-endian): magic "NQSF" (int), n (int), count (long)
+ *   body:                             count * n bytes
+ *
+ * A List<String> board costs ~N strings of N chars plus the list, about 1000x more than N bytes for N = 14.
+ *
+ *  •	Writer: appends through a memory mapped window of the file, a new window is mapped when it is full,
+ *      close() writes the count into the header and cuts the file to its real size.
+ *      It is a Consumer<byte[]>, so NQueen.forEachSolution(n, writer) streams straight into the file.
+ *  •	Reader: maps the file read only (in chunks of up to 1 GB, a chunk always holds whole solutions),
+ *      column(i, row) / forEach() read straight from the mapping, board(i) renders the usual strings on demand.
+ */
+public class QueenSolutionFile {
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("queens", ".nqsf");
+        file.toFile().deleteOnExit();
+        int n = 12;
+        long count;
+        try (Writer writer = Writer.create(file, n)) {
+            count = NQueen.forEachSolution(n, writer);
+        }
+
+        Reader reader = Reader.open(file);
+        System.out.println(n + "-Queens: " + reader.count() + " solutions (" + count + " written), file " + Files.size(file) + " bytes");
+        System.out.println("First board:");
+        for (String row : reader.board(0)) System.out.println(row);
+
+        long[] cornerQueens = new long[1];
+        reader.forEach(solution -> {
+            if (solution.get(0) == 0) cornerQueens[0]++;
+        });
+        System.out.println("Solutions with a queen in the top left corner: " + cornerQueens[0]);
+    }
+
+    static final int MAGIC = 0x4653514E; // "NQSF" little-endian
+    static final int HEADER_BYTES = 16;
+    private static final long MAX_CHUNK = 1L << 30;
+
+    // one chunk per at most 1 GB, rounded down to whole solutions
+    private static long chunkBytes(int n) {
+        return MAX_CHUNK / n * n;
+    }
+
+    public static final class Writer implements Consumer<byte[]>, AutoCloseable {
+        private static final long WINDOW = 64L << 20;
+
+        private final FileChannel channel;
+        private final int n;
+        private final long windowBytes;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long count;
+
+        private Writer(FileChannel channel, int n) throws IOException {
+            this.channel = channel;
+            this.n = n;
+            this.windowBytes = Math.max(1, WINDOW / n) * n;
+            mapWindow(HEADER_BYTES);
+        }
+
+        public static Writer create(Path file, int n) throws IOException {
+            if (n < 1 || n > 127) throw new IllegalArgumentException("n must be between 1 and 127");
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Writer(channel, n);
+        }
+
+        // the array is copied into the file, the caller may reuse it
+        @Override
+        public void accept(byte[] columns) {
+            if (columns.length != n) throw new IllegalArgumentException("Expected " + n + " columns, got " + columns.length);
+            try {
+                if (!window.hasRemaining()) mapWindow(windowStart + windowBytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            window.put(columns);
+            count++;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        private void mapWindow(long start) throws IOException {
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start, windowBytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                window.force();
+                channel.truncate(HEADER_BYTES + count * n);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(n).putLong(count).flip();
+                channel.write(header, 0);
+            }
+        }
+    }
+
+    public static final class Reader {
+        private final MappedByteBuffer[] chunks;
+        private final int n;
+        private final long count;
+        private final long solutionsPerChunk;
+
+        private Reader(MappedByteBuffer[] chunks, int n, long count) {
+            this.chunks = chunks;
+            this.n = n;
+            this.count = count;
+            this.solutionsPerChunk = chunkBytes(n) / n;
+        }
+
+        public static Reader open(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                if (channel.read(header, 0) != HEADER_BYTES || header.getInt(0) != MAGIC) {
+                    throw new IOException("Not an N-Queens solution file: " + file);
+                }
+                int n = header.getInt(4);
+                long count = header.getLong(8);
+                if (n < 1 || n > 127 || count < 0 || channel.size() != HEADER_BYTES + count * n) {
+                    throw new IOException("Corrupt N-Queens solution file: " + file);
+                }
+                long bytes = count * n, chunkBytes = chunkBytes(n);
+                MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((bytes + chunkBytes - 1) / chunkBytes)];
+                for (int c = 0; c < chunks.length; c++) {
+                    long from = c * chunkBytes;
+                    chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + from, Math.min(chunkBytes, bytes - from));
+                }
+                // the mapping stays valid after the channel is closed
+                return new Reader(chunks, n, count);
+            }
+        }
+
+        public int n() {
+            return n;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public int column(long solution, int row) {
+            if (solution < 0 || solution >= count || row < 0 || row >= n) throw new IndexOutOfBoundsException();
+            return chunks[(int) (solution / solutionsPerChunk)].get((int) (solution % solutionsPerChunk * n + row));
+        }
+
+        public byte[] columns(long solution) {
+            byte[] columns = new byte[n];
+            for (int row = 0; row < n; row++) columns[row] = (byte) column(solution, row);
+            return columns;
+        }
+
+        /*
+        Every solution as an n byte view of the mapping (position 0 = row 0), the bytes are not copied.
+        Each solution gets its own small slice object, so the consumer may keep it, it reads the mapped file.
+         */
+        public void forEach(Consumer<ByteBuffer> consumer) {
+            for (MappedByteBuffer chunk : chunks) {
+                ByteBuffer view = chunk.duplicate();
+                for (int offset = 0; offset < chunk.limit(); offset += n) {
+                    view.limit(offset + n).position(offset);
+                    consumer.accept(view.slice());
+                }
+            }
+        }
+
+        // the board in the same List<String> form NQueen.solveNQueens returns
+        public List<String> board(long solution) {
+            List<String> board = new ArrayList<>(n);
+            char[] row = new char[n];
+            for (int r = 0; r < n; r++) {
+                Arrays.fill(row, '.');
+                row[column(solution, r)] = 'Q';
+                board.add(new String(row));
+            }
+            return board;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package DSA.Recursion;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class RatMaze {
 
@@ -15,47 +20,74 @@ public class RatMaze {
         for (String path : result) {
             System.out.println(path);
         }
+
+        // an open 7x7 grid has ~575 million paths, stop after 100 ms with what we have
+        int[][] open = new int[7][7];
+        for (int[] row : open) Arrays.fill(row, 1);
+        SearchBudget.Result<List<String>> partial = rm.findPath(open, SearchBudget.withTimeout(100, TimeUnit.MILLISECONDS));
+        System.out.println("Paths found: " + partial.value().size() + ", truncated: " + partial.truncated());
+
+        // counting does not keep the strings, and the bitset search runs on all cores
+        int[][] open6 = new int[6][6];
+        for (int[] row : open6) Arrays.fill(row, 1);
+        System.out.println("Paths in an open 6x6 grid: " + rm.countPathsParallel(open6));
     }
 
     public List<String> findPath(int[][] grid) {
+        return findPath(grid, SearchBudget.unlimited()).value();
+    }
+
+    public SearchBudget.Result<List<String>> findPath(int[][] grid, SearchBudget budget) {
         //your code goes here
-        List<String> res = new ArrayList();
+        List<String> res = new ArrayList<>();
         int n= grid.length;
-        if(grid[n-1][n-1]==0 || grid[0][0]==0)   return res;
+        if(grid[n-1][n-1]==0 || grid[0][0]==0)   return budget.result(res);
         StringBuffer path = new StringBuffer();
-        findTotalPaths(0,0, grid, path, res, n);
-        return res;
+        SearchTrace.run("RatMaze", () -> findTotalPaths(0,0, grid, path, res, n, budget));
+        return budget.result(res);
     }
 
     public void findTotalPaths(int  row, int column, int[][] grid, StringBuffer path, List<String> res, int n){
+        findTotalPaths(row, column, grid, path, res, n, SearchBudget.unlimited());
+    }
+
+    // the budget is checked before the cell is marked, so every frame that did mark a cell still unmarks it
+    // on the way back and the grid is left unchanged even when the search is cut short
+    public void findTotalPaths(int  row, int column, int[][] grid, StringBuffer path, List<String> res, int n, SearchBudget budget){
+        if(budget.exhausted())  return;
+        SearchTrace.node(path.length());
 
         // base case- if we have reached the destination cell, we will add the path to the result list
         if(row==n-1 && column==n-1){
             res.add(path.toString());
+            SearchTrace.solution(SearchTrace.stringBytes(path.length()));
             return;
         }
 
         // if the cell is blocked, we will return
-        if(grid[row][column]==0)  return;
+        if(grid[row][column]==0) {
+            SearchTrace.prune();
+            return;
+        }
 
         // if the cell is not already bloacked or visited, we will mark it as visited by making it 0, so it will be blocked for next recursive calls
         // we also need to make it 1 again after all the recursive calls are done, so that it can be used in other paths, as done in last
         grid[row][column]=0;
 
         if(row<n-1){
-            findTotalPaths(row+1, column, grid, path.append('D'), res, n);
+            findTotalPaths(row+1, column, grid, path.append('D'), res, n, budget);
             path.deleteCharAt(path.length()-1);
         }
         if(column<n-1){
-            findTotalPaths(row, column+1, grid, path.append('R'), res, n);
+            findTotalPaths(row, column+1, grid, path.append('R'), res, n, budget);
             path.deleteCharAt(path.length()-1);
         }
         if(row>0){
-            findTotalPaths(row-1, column, grid, path.append('U'), res, n);
+            findTotalPaths(row-1, column, grid, path.append('U'), res, n, budget);
             path.deleteCharAt(path.length()-1);
         }
         if(column>0){
-            findTotalPaths(row, column-1, grid, path.append('L'), res, n);
+            findTotalPaths(row, column-1, grid, path.append('L'), res, n, budget);
             path.deleteCharAt(path.length()-1);
         }
 
@@ -64,6 +96,160 @@ public class RatMaze {
 
     }
 
+    /*
+    PARALLEL VERSION (n <= 8)
+
+        findTotalPaths marks visited cells in the shared grid, so two threads cannot walk it at the same time.
+        Here the state of a partial path is just two longs:
+            •	cell index row * n + column
+            •	visited bitset, bit i = cell i is on the path (64 bits = up to 8x8)
+        and it is passed BY VALUE, so every fork-join task owns its copy and nothing has to be undone.
+
+        1.	The first SPLIT_DEPTH moves are forked as separate tasks (one per possible move), deeper levels
+            run sequentially in the worker that picked the task up, idle workers steal the remaining tasks.
+        2.	Dead branches are cut early: a flood fill on the bitsets (shifts by 1 and by n) checks that the
+            destination can still be reached from the current cell through unvisited open cells.
+            Most partial paths in an open grid wall themselves off, so this removes most of the tree.
+        3.	countPathsParallel sums the counts of the tasks, findPathsParallel streams every path to a consumer
+            (called from several threads, so it must be thread safe) instead of keeping millions of strings.
+
+    Paths are the same as findPath gives, only the order differs.
+     */
+    public static final int MAX_PARALLEL_SIZE = 8;
+
+    public long countPathsParallel(int[][] grid) {
+        return searchParallel(grid, null);
+    }
+
+    public long findPathsParallel(int[][] grid, Consumer<String> consumer) {
+        return searchParallel(grid, consumer);
+    }
+
+    private long searchParallel(int[][] grid, Consumer<String> consumer) {
+        int n = grid.length;
+        if (n > MAX_PARALLEL_SIZE) throw new IllegalArgumentException("Parallel search supports grids up to " + MAX_PARALLEL_SIZE + "x" + MAX_PARALLEL_SIZE);
+        if (n == 0 || grid[0][0] == 0 || grid[n - 1][n - 1] == 0) return 0;
+        Maze maze = new Maze(grid, consumer);
+        int splitDepth = 32 - Integer.numberOfLeadingZeros(ForkJoinPool.getCommonPoolParallelism()) + 3;
+        return ForkJoinPool.commonPool().invoke(new PathTask(maze, 0, 1L, new char[n * n], 0, splitDepth));
+    }
+
+    static final class Maze {
+        final int n, target;
+        final long open, notFirstColumn, notLastColumn;
+        final Consumer<String> consumer;
+
+        Maze(int[][] grid, Consumer<String> consumer) {
+            this.n = grid.length;
+            this.target = n * n - 1;
+            this.consumer = consumer;
+            long open = 0, notFirstColumn = 0, notLastColumn = 0;
+            for (int row = 0; row < n; row++) {
+                for (int column = 0; column < n; column++) {
+                    long bit = 1L << (row * n + column);
+                    if (grid[row][column] == 1) open |= bit;
+                    if (column > 0) notFirstColumn |= bit;
+                    if (column < n - 1) notLastColumn |= bit;
+                }
+            }
+            this.open = open;
+            this.notFirstColumn = notFirstColumn;
+            this.notLastColumn = notLastColumn;
+        }
+
+        // cells above, below, left and right of the given ones; bits past the last cell are dropped by the callers' & open
+        long neighbours(long cells) {
+            return cells << n | cells >>> n | (cells & notLastColumn) << 1 | (cells & notFirstColumn) >>> 1;
+        }
+
+        // flood fill from the current cell through unvisited open cells, until the target is hit or nothing grows
+        boolean targetReachable(int cell, long visited) {
+            long free = open & ~visited;
+            long targetBit = 1L << target;
+            long reached = neighbours(1L << cell) & free;
+            while ((reached & targetBit) == 0) {
+                long grown = (reached | neighbours(reached)) & free;
+                if (grown == reached) return false;
+                reached = grown;
+            }
+            return true;
+        }
+
+        // sequential part: state is passed by value, only path[] is shared with the callee and overwritten in place
+        long search(int cell, long visited, char[] path, int length) {
+            if (cell == target) {
+                if (consumer != null) consumer.accept(new String(path, 0, length));
+                return 1;
+            }
+            if (!targetReachable(cell, visited)) return 0;
+            long count = 0;
+            int row = cell / n, column = cell % n;
+            for (int move = 0; move < 4; move++) {
+                int next = next(row, column, move, visited);
+                if (next < 0) continue;
+                path[length] = MOVES[move];
+                count += search(next, visited | 1L << next, path, length + 1);
+            }
+            return count;
+        }
+
+        // cell reached by the move, or -1 when it is outside, blocked or already visited
+        int next(int row, int column, int move, long visited) {
+            switch (move) {
+                case 0 -> row++;
+                case 1 -> column++;
+                case 2 -> row--;
+                default -> column--;
+            }
+            if (row < 0 || column < 0 || row >= n || column >= n) return -1;
+            int next = row * n + column;
+            return ((open & ~visited) >>> next & 1) == 0 ? -1 : next;
+        }
+    }
+
+    // same move order as findTotalPaths
+    private static final char[] MOVES = {'D', 'R', 'U', 'L'};
+
+    static final class PathTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        // only forked on the common pool, never written out, so the maze is not part of the serial form
+        private final transient Maze maze;
+        private final int cell;
+        private final long visited;
+        private final char[] path;
+        private final int length, splitDepth;
+
+        PathTask(Maze maze, int cell, long visited, char[] path, int length, int splitDepth) {
+            this.maze = maze;
+            this.cell = cell;
+            this.visited = visited;
+            this.path = path;
+            this.length = length;
+            this.splitDepth = splitDepth;
+        }
+
+        @Override
+        protected Long compute() {
+            if (length >= splitDepth || cell == maze.target) return maze.search(cell, visited, path, length);
+            if (!maze.targetReachable(cell, visited)) return 0L;
+
+            List<PathTask> tasks = new ArrayList<>(4);
+            int row = cell / maze.n, column = cell % maze.n;
+            for (int move = 0; move < 4; move++) {
+                int next = maze.next(row, column, move, visited);
+                if (next < 0) continue;
+                // every task writes into its own copy of the path
+                char[] copy = path.clone();
+                copy[length] = MOVES[move];
+                tasks.add(new PathTask(maze, next, visited | 1L << next, copy, length + 1, splitDepth));
+            }
+            long count = 0;
+            for (PathTask task : invokeAll(tasks)) count += task.join();
+            return count;
+        }
+    }
+
     // PROBLEM WITH THIS SOLUTION WAS IT DOES NOT TAKE CARE OF LEFT AND UPWARDS DIRECTION PROPERLY, AND WHEN TRIED DOING SO, IT DOES NOT INCLUDE ALL THE POSSIBLE PATHS, LIKE ZIG-ZAG PATHS
     /*
     public void findTotalPaths(int  row, int column, int[][] grid, StringBuffer path, List<String> res, int n){
@@ -0,0 +1,97 @@
+package DSA.Recursion;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Cooperative deadline / cancellation for the exponential solvers (PowerSet, SubsequenceSumIsK, RatMaze, NQueen).
+ *
+ * The recursion calls exhausted() once per node. Reading the clock on every node would cost more than the node
+ * itself, so only a counter is incremented and the real check (deadline passed or cancel() called) happens
+ * every CHECK_INTERVAL nodes. Once the budget is exhausted it stays exhausted, every frame returns right away
+ * and the solver hands back whatever it found so far, wrapped in a Result with truncated = true.
+ *
+ * cancel() may be called from any thread (e.g. the request thread that gave up waiting).
+ * Everything else is meant for the one thread running the search, so one budget = one search at a time.
+ */
+public final class SearchBudget {
+
+    public static final int DEFAULT_CHECK_INTERVAL = 1024;
+
+    public static final class Result<T> {
+        private final T value;
+        private final boolean truncated;
+
+        public Result(T value, boolean truncated) {
+            this.value = value;
+            this.truncated = truncated;
+        }
+
+        // complete result, or the partial one if truncated
+        public T value() {
+            return value;
+        }
+
+        // true if the search was stopped by the deadline or by cancel() before it explored everything
+        public boolean truncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                    "value=" + value +
+                    ", truncated=" + truncated +
+                    '}';
+        }
+    }
+
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final int checkMask;
+    private volatile boolean cancelled;
+    private boolean exhausted;
+    private int counter;
+
+    private SearchBudget(long deadlineNanos, boolean hasDeadline, int checkInterval) {
+        if (checkInterval <= 0 || Integer.bitCount(checkInterval) != 1) {
+            throw new IllegalArgumentException("Check interval must be a power of two, got " + checkInterval);
+        }
+        this.deadlineNanos = deadlineNanos;
+        this.hasDeadline = hasDeadline;
+        this.checkMask = checkInterval - 1;
+    }
+
+    // no deadline, can still be stopped with cancel()
+    public static SearchBudget unlimited() {
+        return new SearchBudget(0, false, DEFAULT_CHECK_INTERVAL);
+    }
+
+    public static SearchBudget withTimeout(long timeout, TimeUnit unit) {
+        return new SearchBudget(System.nanoTime() + unit.toNanos(timeout), true, DEFAULT_CHECK_INTERVAL);
+    }
+
+    public static SearchBudget withTimeout(long timeout, TimeUnit unit, int checkInterval) {
+        return new SearchBudget(System.nanoTime() + unit.toNanos(timeout), true, checkInterval);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // called once per search node, true means stop
+    public boolean exhausted() {
+        if (exhausted) return true;
+        if ((++counter & checkMask) != 0) return false;
+        // nanoTime can overflow, so compare the difference and not the values
+        if (cancelled || (hasDeadline && System.nanoTime() - deadlineNanos >= 0)) exhausted = true;
+        return exhausted;
+    }
+
+    public boolean truncated() {
+        return exhausted;
+    }
+
+    <T> Result<T> result(T value) {
+        return new Result<>(value, exhausted);
+    }
+}
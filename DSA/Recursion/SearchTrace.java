@@ -0,0 +1,227 @@
+package DSA.Recursion;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/*
+ * Instrumentation shared by the backtracking solvers (NQueen, SudokuSolver, RatMaze, PalindromePartioning,
+ * CombinationSum*), to see WHY a search is slow:
+ *
+ *      nodes      -> how many recursive calls, i.e. the real size of the search tree (branching factor)
+ *      pruned     -> how many branches were cut early (placement not possible, sum overshoot, blocked cell ...)
+ *      maxDepth   -> deepest level reached
+ *      solutions  -> results emitted
+ *      resultBytes-> estimated bytes allocated to copy the results (new ArrayList<>(current), path.toString() ...)
+ *      allocated  -> all bytes allocated by the thread during the search, when the JVM can measure it
+ *
+ * Usage inside a solver:
+ *
+ *      SearchTrace.run("NQueen", () -> validNQueens(...));   // at the public entry point, call() if it returns a value
+ *          ...  SearchTrace.node(depth);  SearchTrace.prune();  SearchTrace.solution(bytes);   // inside the recursion
+ *
+ * run() / call() are begin() + close() around the search, begin() is there for callers that want the trace object
+ * (try-with-resources, then read nodes() etc.).
+ *
+ * Switched on with -Ddsa.search.trace=true. ENABLED is a static final constant, so when it is false
+ * the JIT removes every check and the hooks cost nothing; begin() returns null, which try-with-resources skips.
+ *
+ * On close, the numbers are committed as a JFR event ("DSA.Search", visible in a flight recording)
+ * and handed to the pluggable Sink, e.g. to push them to a metrics library.
+ *
+ * Counters live in a ThreadLocal trace, so concurrent searches on different threads do not mix.
+ */
+public final class SearchTrace implements AutoCloseable {
+
+    public static final boolean ENABLED = Boolean.getBoolean("dsa.search.trace");
+
+    public interface Sink {
+        void record(SearchTrace trace);
+    }
+
+    private static final ThreadLocal<SearchTrace> CURRENT = new ThreadLocal<>();
+    private static volatile Sink sink;
+
+    private final String solver;
+    private final SearchTrace previous;
+    private final long startNanos;
+    private final long allocatedBefore;
+    private long nodes, pruned, solutions, resultBytes, allocatedBytes = -1, durationNanos;
+    private int maxDepth;
+
+    private SearchTrace(String solver, SearchTrace previous) {
+        this.solver = solver;
+        this.previous = previous;
+        this.allocatedBefore = threadAllocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    public static void setSink(Sink newSink) {
+        sink = newSink;
+    }
+
+    public static SearchTrace begin(String solver) {
+        if (!ENABLED) return null;
+        SearchTrace trace = new SearchTrace(solver, CURRENT.get());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static void run(String solver, Runnable search) {
+        SearchTrace trace = begin(solver);
+        try {
+            search.run();
+        } finally {
+            if (trace != null) trace.close();
+        }
+    }
+
+    public static <T> T call(String solver, Supplier<T> search) {
+        SearchTrace trace = begin(solver);
+        try {
+            return search.get();
+        } finally {
+            if (trace != null) trace.close();
+        }
+    }
+
+    public static void node(int depth) {
+        if (!ENABLED) return;
+        SearchTrace trace = CURRENT.get();
+        if (trace == null) return;
+        trace.nodes++;
+        if (depth > trace.maxDepth) trace.maxDepth = depth;
+    }
+
+    public static void prune() {
+        if (!ENABLED) return;
+        SearchTrace trace = CURRENT.get();
+        if (trace != null) trace.pruned++;
+    }
+
+    public static void solution(long bytes) {
+        if (!ENABLED) return;
+        SearchTrace trace = CURRENT.get();
+        if (trace == null) return;
+        trace.solutions++;
+        trace.resultBytes += bytes;
+    }
+
+    /*
+    Estimated sizes with compressed oops (12 byte headers, 4 byte references, 8 byte alignment),
+    used by the solvers to report resultBytes without measuring every copy:
+        ArrayList   = 24 bytes + Object[] of 16 + 4 * size
+        Integer     = 16 bytes (not counted for -128..127, those are cached)
+        String      = 24 bytes + byte[] of 16 + length (latin1)
+        IntRows row = 4 bytes per int + a 4 byte offset (amortized, the arrays grow by doubling)
+     */
+    public static long listBytes(int size) {
+        return 24 + align(16 + 4L * size);
+    }
+
+    public static long integerListBytes(int size) {
+        return listBytes(size) + 16L * size;
+    }
+
+    public static long intRowBytes(int size) {
+        return 4L * size + 4;
+    }
+
+    public static long stringBytes(int length) {
+        return 24 + align(16 + (long) length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    @Override
+    public void close() {
+        durationNanos = System.nanoTime() - startNanos;
+        long allocatedAfter = threadAllocatedBytes();
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) allocatedBytes = allocatedAfter - allocatedBefore;
+        if (previous == null) CURRENT.remove();
+        else CURRENT.set(previous);
+
+        SearchEvent event = new SearchEvent();
+        if (event.shouldCommit()) {
+            event.solver = solver;
+            event.nodes = nodes;
+            event.pruned = pruned;
+            event.maxDepth = maxDepth;
+            event.solutions = solutions;
+            event.resultBytes = resultBytes;
+            event.allocatedBytes = allocatedBytes;
+            event.commit();
+        }
+
+        Sink current = sink;
+        if (current != null) current.record(this);
+    }
+
+    public String solver() { return solver; }
+    public long nodes() { return nodes; }
+    public long pruned() { return pruned; }
+    public int maxDepth() { return maxDepth; }
+    public long solutions() { return solutions; }
+    public long resultBytes() { return resultBytes; }
+    public long allocatedBytes() { return allocatedBytes; }
+    public long durationNanos() { return durationNanos; }
+
+    @Override
+    public String toString() {
+        return "SearchTrace{" +
+                "solver='" + solver + '\'' +
+                ", nodes=" + nodes +
+                ", pruned=" + pruned +
+                ", maxDepth=" + maxDepth +
+                ", solutions=" + solutions +
+                ", resultBytes=" + resultBytes +
+                ", allocatedBytes=" + allocatedBytes +
+                ", durationMicros=" + durationNanos / 1000 +
+                '}';
+    }
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1;
+    }
+
+    @Name("DSA.Search")
+    @Label("Backtracking Search")
+    @Category("DSA")
+    @Description("Search tree statistics of one backtracking solver call")
+    static class SearchEvent extends Event {
+        @Label("Solver")
+        String solver;
+
+        @Label("Nodes Visited")
+        long nodes;
+
+        @Label("Pruned Branches")
+        long pruned;
+
+        @Label("Max Depth")
+        int maxDepth;
+
+        @Label("Solutions")
+        long solutions;
+
+        @Label("Result Bytes")
+        @DataAmount
+        long resultBytes;
+
+        @Label("Allocated Bytes")
+        @DataAmount
+        long allocatedBytes;
+    }
+}
@@ -1,7 +1,9 @@
 package DSA.Recursion;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class SubsequenceSumIsK {
 
@@ -9,6 +11,22 @@ public class SubsequenceSumIsK {
         int[] nums = {1, 2, 3, 4};
         int target = 5;
         System.out.println(checkSubsequenceSum(nums, target)); // Expected output: true
+
+        // no subsequence of 40 even numbers sums to an odd target, so the full search is 2^40 calls
+        int[] evens = new int[40];
+        Arrays.fill(evens, 2);
+        System.out.println(checkSubsequenceSum(evens, 41, SearchBudget.withTimeout(50, TimeUnit.MILLISECONDS)));
+    }
+
+    /*
+    With a budget: value = true is always a real answer (a subsequence was found),
+    value = false together with truncated = true means "not found in the time we had", not "does not exist".
+     */
+    public static SearchBudget.Result<Boolean> checkSubsequenceSum(int[] nums, int target, SearchBudget budget) {
+        int n = nums.length;
+        if(n==1)    return budget.result(nums[0]==target);
+        boolean found = solve(0, n, nums, target, budget);
+        return new SearchBudget.Result<>(found, !found && budget.truncated());
     }
 
     // This method initiates the recursive process
@@ -21,6 +39,15 @@ public class SubsequenceSumIsK {
 
     // This method recursively checks for the subsequence with the given sum
     public static boolean solve(int i, int n, int[] arr, int k) {
+        return solve(i, n, arr, k, SearchBudget.unlimited());
+    }
+
+    public static boolean solve(int i, int n, int[] arr, int k, SearchBudget budget) {
+
+        // budget ran out, give up on this branch (and on every other one, as it stays exhausted)
+        if (budget.exhausted()) {
+            return false;
+        }
 
         // Base case: if k is 0, a valid subsequence has been found, with target sum
         if (k == 0) {
@@ -38,7 +65,7 @@ public class SubsequenceSumIsK {
 
         // Recursive call: include the current element in the subsequence
         // or exclude the current element from the subsequence
-        return solve(i + 1, n, arr, k - arr[i]) || solve(i + 1, n, arr, k);
+        return solve(i + 1, n, arr, k - arr[i], budget) || solve(i + 1, n, arr, k, budget);
     }
 
     /*
@@ -0,0 +1,165 @@
+package DSA.Recursion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/*
+ * Generates Sudoku puzzles with exactly one solution.
+ *
+ *  1.	Random full grid: the empty board is filled by a backtracking search that takes the most constrained cell
+ *      first and tries its candidates in random order (an empty board never needs much backtracking).
+ *  2.	Dig holes: visit the 81 cells in random order and remove each clue, unless the puzzle stops being unique.
+ *      Uniqueness after removing clue d at a cell = no solution with ANOTHER digit in that cell,
+ *      so SudokuSolver.countSolutionsExcluding(grid, cell, d, 1) must find nothing.
+ *      That is cheaper than counting to 2, which would find the known solution again every time.
+ *  The result is a minimal puzzle: removing any single remaining clue makes it ambiguous.
+ *
+ * generate(count, threads, consumer) runs `threads` workers, each with its own SplittableRandom split from the seed,
+ * so no random generator is shared (java.util.Random would have every thread contending on one AtomicLong).
+ */
+public class SudokuGenerator {
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        char[][] puzzle = new SudokuGenerator(42).generate();
+        int clues = 0;
+        for (char[] row : puzzle) {
+            System.out.println(new String(row));
+            for (char c : row) if (c != '.') clues++;
+        }
+        System.out.println("Clues: " + clues + ", unique: " + SudokuSolver.hasUniqueSolution(puzzle));
+
+        int count = 5_000;
+        AtomicInteger generated = new AtomicInteger();
+        long start = System.nanoTime();
+        generate(count, threads, 7, p -> generated.incrementAndGet());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d unique puzzles on %d threads in %.2f s = %.0f per minute%n",
+                generated.get(), threads, seconds, generated.get() / seconds * 60);
+    }
+
+    private final SplittableRandom random;
+
+    public SudokuGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SudokuGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // not thread safe, use one generator per thread (or generate(count, threads, ...))
+    public char[][] generate() {
+        int[] grid = randomFullGrid();
+        dig(grid);
+        char[][] board = new char[9][9];
+        for (int cell = 0; cell < 81; cell++) board[cell / 9][cell % 9] = grid[cell] == 0 ? '.' : (char) ('0' + grid[cell]);
+        return board;
+    }
+
+    /*
+    `count` puzzles on `threads` threads, every puzzle goes to the consumer (called from the worker threads,
+    so it must be thread safe).
+    Every worker has a fixed quota, count / threads puzzles and one more for the first count % threads workers,
+    drawn from its own split of the seed. So the same seed and thread count give the same set of puzzles,
+    only the order they reach the consumer in depends on the scheduling.
+     */
+    public static void generate(int count, int threads, long seed, Consumer<char[][]> consumer) throws InterruptedException {
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SudokuGenerator generator = new SudokuGenerator(root.split());
+                int quota = count / threads + (t < count % threads ? 1 : 0);
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < quota; i++) consumer.accept(generator.generate());
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    int[] randomFullGrid() {
+        int[] grid = new int[81];
+        int[] empty = new int[81];
+        for (int cell = 0; cell < 81; cell++) empty[cell] = cell;
+        fill(grid, new int[9], new int[9], new int[9], empty, 81);
+        return grid;
+    }
+
+    // same most-constrained-cell search as SudokuSolver.count, but it keeps the digits and tries them in random order
+    private boolean fill(int[] grid, int[] rows, int[] cols, int[] boxes, int[] empty, int remaining) {
+        if (remaining == 0) return true;
+        int best = -1, bestCandidates = 0, fewest = 10;
+        for (int i = 0; i < remaining; i++) {
+            int cell = empty[i];
+            int candidates = ~(rows[cell / 9] | cols[cell % 9] | boxes[cell / 27 * 3 + cell % 9 / 3]) & 0x1FF;
+            int size = Integer.bitCount(candidates);
+            if (size < fewest) {
+                best = i;
+                bestCandidates = candidates;
+                fewest = size;
+                if (size <= 1) break;
+            }
+        }
+        if (fewest == 0) return false;
+
+        int cell = empty[best];
+        empty[best] = empty[remaining - 1];
+        empty[remaining - 1] = cell;
+        int row = cell / 9, col = cell % 9, box = row / 3 * 3 + col / 3;
+        for (int candidates = bestCandidates; candidates != 0; ) {
+            int bit = randomBit(candidates);
+            candidates ^= bit;
+            rows[row] |= bit;
+            cols[col] |= bit;
+            boxes[box] |= bit;
+            if (fill(grid, rows, cols, boxes, empty, remaining - 1)) {
+                grid[cell] = Integer.numberOfTrailingZeros(bit) + 1;
+                return true;
+            }
+            rows[row] ^= bit;
+            cols[col] ^= bit;
+            boxes[box] ^= bit;
+        }
+        return false;
+    }
+
+    private int randomBit(int mask) {
+        int skip = random.nextInt(Integer.bitCount(mask));
+        for (int i = 0; i < skip; i++) mask &= mask - 1;
+        return mask & -mask;
+    }
+
+    void dig(int[] grid) {
+        int[] order = new int[81];
+        for (int i = 0; i < 81; i++) order[i] = i;
+        for (int i = 80; i > 0; i--) {
+            int j = random.nextInt(i + 1), t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        for (int cell : order) {
+            int digit = grid[cell];
+            grid[cell] = 0;
+            // still unique = no solution with another digit in the emptied cell
+            if (SudokuSolver.countSolutionsExcluding(grid, cell, digit, 1) > 0) grid[cell] = digit;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package DSA.Server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * Minimal JSON reader / writer for the solver endpoints, so the server needs nothing outside the JDK.
+ *
+ * parse() gives back: Map (object), List (array), String, Long or Double (number), Boolean, null.
+ * write() accepts the same types plus int[], long[], boolean[], char[][] and any other Number.
+ *
+ * The reader is recursive descent, so arrays and objects nested deeper than MAX_DEPTH are rejected with an
+ * IllegalArgumentException instead of running the thread out of stack on input like [[[[...
+ */
+public class Json {
+
+    public static final int MAX_DEPTH = 64;
+
+    public static Object parse(String text) {
+        Json parser = new Json(text);
+        parser.skipWhitespace();
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos != text.length()) throw parser.error("Unexpected trailing characters");
+        return value;
+    }
+
+    public static String write(Object value) {
+        StringBuilder out = new StringBuilder();
+        write(value, out);
+        return out.toString();
+    }
+
+    private final String text;
+    private int pos;
+    // arrays and objects currently open
+    private int depth;
+
+    private Json(String text) {
+        this.text = text;
+    }
+
+    private Object readValue() {
+        if (pos >= text.length()) throw error("Unexpected end of input");
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{': return nested(this::readObject);
+            case '[': return nested(this::readArray);
+            case '"': return readString();
+            case 't': expect("true"); return Boolean.TRUE;
+            case 'f': expect("false"); return Boolean.FALSE;
+            case 'n': expect("null"); return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) return readNumber();
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Object nested(Supplier<Object> reader) {
+        if (++depth > MAX_DEPTH) throw error("Nested deeper than " + MAX_DEPTH);
+        Object value = reader.get();
+        depth--;
+        return value;
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return res;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') throw error("Expected a key");
+            String key = readString();
+            skipWhitespace();
+            if (peek() != ':') throw error("Expected ':'");
+            pos++;
+            skipWhitespace();
+            res.put(key, readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') return res;
+            if (c != ',') throw error("Expected ',' or '}'");
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> res = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return res;
+        }
+        while (true) {
+            skipWhitespace();
+            res.add(readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == ']') return res;
+            if (c != ',') throw error("Expected ',' or ']'");
+        }
+    }
+
+    private String readString() {
+        StringBuilder res = new StringBuilder();
+        pos++;
+        while (true) {
+            char c = next();
+            if (c == '"') return res.toString();
+            if (c != '\\') {
+                res.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case 'n' -> res.append('\n');
+                case 't' -> res.append('\t');
+                case 'r' -> res.append('\r');
+                case 'b' -> res.append('\b');
+                case 'f' -> res.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > text.length()) throw error("Bad unicode escape");
+                    res.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    pos += 4;
+                }
+                default -> res.append(escaped); // \" \\ \/
+            }
+        }
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        boolean decimal = false;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '.' || c == 'e' || c == 'E') decimal = true;
+            else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) break;
+            pos++;
+        }
+        String number = text.substring(start, pos);
+        try {
+            return decimal ? (Number) Double.parseDouble(number) : (Number) Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw error("Bad number " + number);
+        }
+    }
+
+    private void expect(String word) {
+        if (!text.startsWith(word, pos)) throw error("Expected " + word);
+        pos += word.length();
+    }
+
+    private char peek() {
+        if (pos >= text.length()) throw error("Unexpected end of input");
+        return text.charAt(pos);
+    }
+
+    private char next() {
+        char c = peek();
+        pos++;
+        return c;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+
+    private static void write(Object value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String s) {
+            writeString(s, out);
+        } else if (value instanceof Double d && (d.isNaN() || d.isInfinite())) {
+            out.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) out.append(',');
+                first = false;
+                writeString(String.valueOf(entry.getKey()), out);
+                out.append(':');
+                write(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Iterable<?> list) {
+            out.append('[');
+            boolean first = true;
+            for (Object element : list) {
+                if (!first) out.append(',');
+                first = false;
+                write(element, out);
+            }
+            out.append(']');
+        } else if (value instanceof int[] ints) {
+            out.append('[');
+            for (int i = 0; i < ints.length; i++) out.append(i == 0 ? "" : ",").append(ints[i]);
+            out.append(']');
+        } else if (value instanceof long[] longs) {
+            out.append('[');
+            for (int i = 0; i < longs.length; i++) out.append(i == 0 ? "" : ",").append(longs[i]);
+            out.append(']');
+        } else if (value instanceof boolean[] booleans) {
+            out.append('[');
+            for (int i = 0; i < booleans.length; i++) out.append(i == 0 ? "" : ",").append(booleans[i]);
+            out.append(']');
+        } else if (value instanceof char[][] rows) {
+            out.append('[');
+            for (int i = 0; i < rows.length; i++) {
+                if (i > 0) out.append(',');
+                writeString(new String(rows[i]), out);
+            }
+            out.append(']');
+        } else {
+            writeString(value.toString(), out);
+        }
+    }
+
+    private static void writeString(String s, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
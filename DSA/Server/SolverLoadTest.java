@@ -0,0 +1,129 @@
+package DSA.Server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Closed loop load test against SolverServer on localhost:
+ * CLIENTS virtual threads each send a request, wait for the answer, and send the next one, for DURATION.
+ *
+ *   java DSA.Server.SolverLoadTest [clients] [seconds] [url]
+ *
+ * Without a url it starts its own server on a free port. Every client cycles through a mix of
+ * cheap (binary search) and CPU heavy (sudoku, n-queens, greedy) requests, and the report shows
+ * throughput, latency percentiles of successful requests, and how many were rejected with 503 by the backpressure.
+ */
+public class SolverLoadTest {
+
+    static final String[][] REQUESTS = {
+            {"/search/rotated", "{\"nums\": [7, 8, 9, 10, 1, 2, 3, 4, 5, 6], \"target\": 4}"},
+            {"/search/lower-bound", "{\"nums\": [3, 5, 8, 15, 19], \"target\": 9}"},
+            {"/search/banana-rate", "{\"piles\": [3, 6, 7, 11], \"hours\": 8}"},
+            {"/platforms", "{\"arrival\": [1000, 1010, 1030, 1045, 1100], \"departure\": [1015, 1025, 1040, 1050, 1115]}"},
+            {"/jobs", "{\"jobs\": [[1, 2, 100], [2, 1, 19], [3, 2, 27], [4, 1, 25], [5, 1, 15]]}"},
+            {"/knapsack", "{\"weights\": [2, 3, 5], \"values\": [5, 10, 15], \"capacity\": 5}"},
+            {"/nqueens", "{\"n\": 6}"},
+            {"/sudoku", "{\"board\": [\"53..7....\", \"6..195...\", \".98....6.\", \"8...6...3\", \"4..8.3..1\","
+                    + " \"7...2...6\", \".6....28.\", \"...419..5\", \"....8..79\"]}"},
+    };
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        SolverServer server = null;
+        String url;
+        if (args.length > 2) {
+            url = args[2];
+        } else {
+            int cores = Runtime.getRuntime().availableProcessors();
+            server = new SolverServer(0, cores, cores * 4);
+            server.start();
+            url = "http://localhost:" + server.port();
+        }
+
+        try {
+            run(url, clients, Duration.ofSeconds(seconds));
+        } finally {
+            if (server != null) server.stop();
+        }
+    }
+
+    static void run(String url, int clients, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        AtomicLong rejected = new AtomicLong(), failed = new AtomicLong();
+        long end = System.nanoTime() + duration.toNanos();
+        long start = System.nanoTime();
+
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int offset = c;
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    for (int i = offset; System.nanoTime() < end; i++) {
+                        String[] request = REQUESTS[i % REQUESTS.length];
+                        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(url + request[0]))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(request[1]))
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            int status = client.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 503) {
+                                rejected.incrementAndGet();
+                                continue;
+                            }
+                            if (status != 200) {
+                                failed.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - sent;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] all = results.stream().map(SolverLoadTest::join).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%d clients, %.1f s: %d ok, %d rejected (503), %d failed%n",
+                clients, elapsedSeconds, all.length, rejected.get(), failed.get());
+        System.out.printf("throughput: %.0f req/s%n", all.length / elapsedSeconds);
+        if (all.length == 0) return;
+        System.out.printf("latency ms: p50 %.2f | p90 %.2f | p99 %.2f | p99.9 %.2f | max %.2f%n",
+                percentile(all, 50), percentile(all, 90), percentile(all, 99), percentile(all, 99.9), all[all.length - 1] / 1e6);
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // nearest rank percentile of sorted nanos, in millis
+    static double percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1e6;
+    }
+}
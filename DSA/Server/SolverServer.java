@@ -0,0 +1,421 @@
+package DSA.Server;
+
+import DSA.BinarySearch.EatingBananasHourly;
+import DSA.BinarySearch.LowerBound;
+import DSA.BinarySearch.MinInRotatedSortedArray;
+import DSA.BinarySearch.RotatedSortedArray;
+import DSA.BinarySearch.SmallestDivisorLessThanEqualThreshold;
+import DSA.Cache.CachedSolvers;
+import DSA.Cache.LruCache;
+import DSA.GreedyAlgorithms.JobSequencingProblem;
+import DSA.GreedyAlgorithms.JobSequencingWithDurations;
+import DSA.GreedyAlgorithms.MinNumOfRailwayPlatforms;
+import DSA.Recursion.NQueen;
+import DSA.Recursion.NQueenCompletion;
+import DSA.Recursion.SearchBudget;
+import DSA.Recursion.SudokuSolver;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * Local HTTP / JSON endpoints for the solvers, using only the JDK's built-in HttpServer.
+ *
+ *  POST /sudoku                  {"board": ["53..7....", "6..195...", ...], "timeoutMillis": 1000}
+ *  POST /nqueens                 {"n": 8, "timeoutMillis": 1000}                 (boards up to n = 12, above only the count)
+ *  POST /nqueens/complete        {"queens": [-1, 3, -1, -1], "count": true, "timeoutMillis": 1000}   (-1 = free row)
+ *  POST /platforms               {"arrival": [1000, 1010], "departure": [1015, 1025]}
+ *  POST /jobs                    {"jobs": [[1, 2, 100], [2, 1, 19]]}              (id, deadline, profit[, duration])
+ *  POST /knapsack                {"weights": [2, 3, 5], "values": [5, 10, 15], "capacity": 5}
+ *  POST /search/lower-bound      {"nums": [3, 5, 8, 15, 19], "target": 9}
+ *  POST /search/rotated          {"nums": [7, 8, 1, 2, 3], "target": 2}
+ *  POST /search/min-rotated      {"nums": [3, 4, 5, 1, 2]}
+ *  POST /search/smallest-divisor {"nums": [5, 10, 15], "threshold": 7}      (or "thresholds": [7, 9, 30], -1 = none)
+ *  POST /search/banana-rate      {"piles": [3, 6, 7, 11], "hours": 8}
+ *  GET  /cache/stats             hits / misses / evictions of the sudoku, n-queens and knapsack caches
+ *
+ * Sudoku, n-queens and knapsack answers go through CachedSolvers, so a repeated (or equivalent) request
+ * is answered from memory without touching the solver.
+ *
+ * Threading:
+ *  1.	Every request runs on its own virtual thread, so thousands of slow clients only cost thousands of
+ *      cheap virtual threads, not platform threads.
+ *  2.	CPU heavy solves (sudoku, n-queens, the greedy sorts) are NOT run on the virtual thread, they are handed to
+ *      a bounded pool of platform threads (one per core), the virtual thread just waits for the result.
+ *      Running them on virtual threads would pin all carrier threads and starve every other request.
+ *  3.	Backpressure: that pool has a bounded queue, when it is full the request is rejected right away
+ *      with 503 + Retry-After instead of queueing forever and blowing the latency of everyone.
+ *  4.	Every search runs under a SearchBudget: timeoutMillis defaults to 1000 and above maxTimeoutMillis
+ *      the request is rejected with 400, so no client can hold a pool thread for long. The virtual thread waits
+ *      at most that long (plus a grace for the queue) and then cancels the task and answers 503.
+ *  5.	Bodies above MAX_BODY_BYTES are answered with 413, JSON nested deeper than Json.MAX_DEPTH with 400.
+ *  The binary searches are O(log n) and run directly on the request's virtual thread.
+ */
+public class SolverServer {
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int cores = Runtime.getRuntime().availableProcessors();
+        SolverServer server = new SolverServer(port, cores, cores * 4, DEFAULT_MAX_TIMEOUT_MILLIS);
+        server.start();
+        System.out.println("Solver server listening on http://localhost:" + server.port());
+    }
+
+    static final int MAX_DEADLINE = 1_000_000;
+    // larger bodies get 413 without being parsed (1 MB fits 100k jobs)
+    static final int MAX_BODY_BYTES = 1 << 20;
+    // largest n whose boards are returned (14200 boards of 12 x 12), above it /nqueens only counts
+    static final int MAX_BOARDS_N = 12;
+    static final long DEFAULT_TIMEOUT_MILLIS = 1000;
+    static final long DEFAULT_MAX_TIMEOUT_MILLIS = 10_000;
+    // how much longer than the longest search a request waits for the pool, for the time spent in the queue
+    private static final long QUEUE_GRACE_MILLIS = 1000;
+
+    interface Endpoint {
+        Object handle(Map<String, Object> body) throws Exception;
+    }
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ThreadPoolExecutor cpuPool;
+    private final long maxTimeoutMillis;
+    private final CachedSolvers solvers = new CachedSolvers(4 << 20, 64 << 20, 4 << 20);
+
+    public SolverServer(int port, int cpuThreads, int queueCapacity) throws IOException {
+        this(port, cpuThreads, queueCapacity, DEFAULT_MAX_TIMEOUT_MILLIS);
+    }
+
+    // maxTimeoutMillis: the largest timeoutMillis a request may ask for
+    public SolverServer(int port, int cpuThreads, int queueCapacity, long maxTimeoutMillis) throws IOException {
+        if (maxTimeoutMillis <= 0) throw new IllegalArgumentException("maxTimeoutMillis must be positive");
+        this.maxTimeoutMillis = maxTimeoutMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.cpuPool = new ThreadPoolExecutor(cpuThreads, cpuThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        server.setExecutor(requestExecutor);
+        registerEndpoints();
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        cpuPool.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void registerEndpoints() {
+        register("/sudoku", true, body -> {
+            char[][] board = sudokuBoard(body);
+            // clashing givens have no solution, but the solver would only find that out after the whole search
+            if (SudokuSolver.hasConflicts(board)) throw new IllegalArgumentException("board has conflicting givens");
+            SearchBudget.Result<Boolean> solved = solvers.solveSudoku(board, budget(body));
+            Map<String, Object> res = new LinkedHashMap<>();
+            res.put("solved", solved.value());
+            res.put("truncated", solved.truncated());
+            res.put("board", board);
+            return res;
+        });
+        register("/nqueens", true, body -> {
+            int n = intValue(body, "n");
+            if (n < 1 || n > 32) throw new IllegalArgumentException("n must be between 1 and 32");
+            Map<String, Object> res = new LinkedHashMap<>();
+            if (n > MAX_BOARDS_N) {
+                // n = 13 already has 73712 boards, n = 16 millions: only the count, streamed without keeping a board
+                SearchBudget.Result<Long> count = NQueen.forEachSolution(n, budget(body), columns -> { });
+                res.put("count", count.value());
+                res.put("truncated", count.truncated());
+                return res;
+            }
+            SearchBudget.Result<List<List<String>>> result = solvers.solveNQueens(n, budget(body));
+            res.put("count", result.value().size());
+            res.put("truncated", result.truncated());
+            res.put("solutions", result.value());
+            return res;
+        });
+        register("/nqueens/complete", true, body -> {
+            int[] queens = intArray(body, "queens");
+            if (queens.length < 1 || queens.length > 1000) throw new IllegalArgumentException("Board size must be between 1 and 1000");
+            // one deadline for the whole request, the count only gets what the completion search left
+            SearchBudget budget = budget(body);
+            boolean count = Boolean.TRUE.equals(body.get("count"));
+            if (count && queens.length > 32) throw new IllegalArgumentException("Counting needs a board size of at most 32");
+            SearchBudget.Result<int[]> completion = NQueenCompletion.findCompletion(queens, budget);
+            Map<String, Object> res = new LinkedHashMap<>();
+            res.put("found", completion.value() != null);
+            res.put("truncated", completion.truncated());
+            res.put("solution", completion.value() == null ? null : NQueenCompletion.board(completion.value()));
+            if (count) {
+                SearchBudget.Result<Long> completions = NQueenCompletion.countCompletions(queens, budget);
+                res.put("count", completions.value());
+                res.put("countTruncated", completions.truncated());
+            }
+            return res;
+        });
+        register("/platforms", true, body -> {
+            int[] arrival = intArray(body, "arrival");
+            int[] departure = intArray(body, "departure");
+            if (arrival.length != departure.length || arrival.length == 0) {
+                throw new IllegalArgumentException("arrival and departure must be non empty and of the same length");
+            }
+            return Map.of("platforms", new MinNumOfRailwayPlatforms().findPlatform(arrival, departure));
+        });
+        register("/jobs", true, body -> {
+            List<?> rows = list(body, "jobs");
+            int[][] jobs = new int[rows.size()][];
+            for (int i = 0; i < jobs.length; i++) {
+                jobs[i] = toIntArray(rows.get(i), "jobs[" + i + "]");
+                // both schedulers allocate per deadline unit, so the deadline is capped
+                if (jobs[i].length != jobs[0].length || jobs[i].length < 3 || jobs[i].length > 4 || jobs[i][1] < 0 || jobs[i][1] > MAX_DEADLINE) {
+                    throw new IllegalArgumentException("Every job is [id, deadline in 0.." + MAX_DEADLINE + ", profit] or [id, deadline, profit, duration]");
+                }
+            }
+            if (jobs.length > 0 && jobs[0].length == 4) return Map.of("profit", JobSequencingWithDurations.jobScheduling(jobs));
+            return Map.of("profit", JobSequencingProblem.jobScheduling(jobs));
+        });
+        register("/knapsack", true, body -> {
+            int[] weights = intArray(body, "weights");
+            int[] values = intArray(body, "values");
+            if (weights.length != values.length) throw new IllegalArgumentException("weights and values must be of the same length");
+            for (int weight : weights) if (weight <= 0) throw new IllegalArgumentException("weights must be positive");
+            return Map.of("profit", solvers.fractionalKnapsack(weights, values, intValue(body, "capacity")));
+        });
+
+        register("/search/lower-bound", false, body -> {
+            int[] nums = intArray(body, "nums");
+            requireSorted(nums);
+            return Map.of("index", new LowerBound().lowerBound(nums, intValue(body, "target")));
+        });
+        register("/search/rotated", false, body -> {
+            int index = new RotatedSortedArray(intArray(body, "nums")).indexOf(intValue(body, "target"));
+            return Map.of("found", index >= 0, "index", index);
+        });
+        register("/search/min-rotated", false, body -> {
+            int[] nums = intArray(body, "nums");
+            if (nums.length == 0) throw new IllegalArgumentException("nums must not be empty");
+            return Map.of("min", new MinInRotatedSortedArray().findMin(nums));
+        });
+        register("/search/smallest-divisor", false, body -> {
+            int[] nums = requirePositive(intArray(body, "nums"));
+            if (body.containsKey("thresholds")) {
+                return Map.of("divisors", new SmallestDivisorLessThanEqualThreshold().smallestDivisors(nums, intArray(body, "thresholds")));
+            }
+            return Map.of("divisor", new SmallestDivisorLessThanEqualThreshold().smallestDivisor(nums, intValue(body, "threshold")));
+        });
+        register("/search/banana-rate", false, body -> {
+            int[] piles = requirePositive(intArray(body, "piles"));
+            return Map.of("rate", new EatingBananasHourly().minimumRateToEatBananas(piles, intValue(body, "hours")));
+        });
+
+        server.createContext("/cache/stats", exchange -> {
+            try (exchange) {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    respond(exchange, 405, Map.of("error", "Use GET"));
+                    return;
+                }
+                Map<String, Object> res = new LinkedHashMap<>();
+                res.put("sudoku", statsJson(solvers.sudokuStats()));
+                res.put("nqueens", statsJson(solvers.nQueenStats()));
+                res.put("knapsack", statsJson(solvers.knapsackStats()));
+                respond(exchange, 200, res);
+            }
+        });
+    }
+
+    private static Map<String, Object> statsJson(LruCache.Stats stats) {
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("hits", stats.hits);
+        res.put("misses", stats.misses);
+        res.put("evictions", stats.evictions);
+        res.put("hitRate", stats.hitRate());
+        res.put("size", stats.size);
+        res.put("weight", stats.weight);
+        res.put("maxWeight", stats.maxWeight);
+        return res;
+    }
+
+    private void register(String path, boolean cpuHeavy, Endpoint endpoint) {
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    respond(exchange, 405, Map.of("error", "Use POST with a JSON body"));
+                    return;
+                }
+                byte[] bytes = readBytes(exchange);
+                if (bytes == null) {
+                    respond(exchange, 413, Map.of("error", "Body larger than " + MAX_BODY_BYTES + " bytes"));
+                    return;
+                }
+                Map<String, Object> body;
+                try {
+                    body = parseBody(bytes);
+                } catch (IllegalArgumentException e) {
+                    respond(exchange, 400, Map.of("error", e.getMessage()));
+                    return;
+                }
+                handle(exchange, cpuHeavy, endpoint, body);
+            }
+        });
+    }
+
+    private void handle(HttpExchange exchange, boolean cpuHeavy, Endpoint endpoint, Map<String, Object> body) throws IOException {
+        Future<Object> future = null;
+        try {
+            Object result;
+            if (cpuHeavy) {
+                future = cpuPool.submit(() -> endpoint.handle(body));
+                result = future.get(maxTimeoutMillis + QUEUE_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            } else {
+                result = endpoint.handle(body);
+            }
+            respond(exchange, 200, result);
+        } catch (RejectedExecutionException e) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 503, Map.of("error", "Solver pool is saturated, retry later"));
+        } catch (ExecutionException e) {
+            respondError(exchange, e.getCause());
+        } catch (TimeoutException e) {
+            // still queued or stuck: free the pool thread (or the queue slot) for the next request
+            future.cancel(true);
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 503, Map.of("error", "Solver did not answer in time, retry later"));
+        } catch (InterruptedException e) {
+            if (future != null) future.cancel(true);
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, Map.of("error", "Interrupted"));
+        } catch (Exception e) {
+            respondError(exchange, e);
+        }
+    }
+
+    private static void respondError(HttpExchange exchange, Throwable error) throws IOException {
+        // bad input shows up as IllegalArgumentException from our checks, or as a ClassCastException / index error
+        // when the JSON has the wrong shape, both are the client's fault
+        boolean badRequest = error instanceof IllegalArgumentException || error instanceof ClassCastException
+                || error instanceof IndexOutOfBoundsException || error instanceof NullPointerException;
+        String message = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        respond(exchange, badRequest ? 400 : 500, Map.of("error", message));
+    }
+
+    // null when the body is larger than MAX_BODY_BYTES, read no further than one byte past the limit
+    private static byte[] readBytes(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            return bytes.length > MAX_BODY_BYTES ? null : bytes;
+        }
+    }
+
+    private static Map<String, Object> parseBody(byte[] bytes) {
+        Object json = Json.parse(new String(bytes, StandardCharsets.UTF_8));
+        if (!(json instanceof Map<?, ?>)) throw new IllegalArgumentException("Body must be a JSON object");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) json;
+        return body;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int intValue(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        if (!(value instanceof Long number)) throw new IllegalArgumentException("'" + key + "' must be an integer");
+        return toInt(number, key);
+    }
+
+    // JSON numbers are parsed as longs, one outside the int range is bad input and not an ArithmeticException (500)
+    private static int toInt(long number, String name) {
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'" + name + "' is out of the int range");
+        }
+        return (int) number;
+    }
+
+    private long timeoutMillis(Map<String, Object> body) {
+        if (!body.containsKey("timeoutMillis")) return Math.min(DEFAULT_TIMEOUT_MILLIS, maxTimeoutMillis);
+        long timeout = intValue(body, "timeoutMillis");
+        if (timeout < 0 || timeout > maxTimeoutMillis) {
+            throw new IllegalArgumentException("'timeoutMillis' must be between 0 and " + maxTimeoutMillis);
+        }
+        return timeout;
+    }
+
+    private SearchBudget budget(Map<String, Object> body) {
+        return SearchBudget.withTimeout(timeoutMillis(body), TimeUnit.MILLISECONDS);
+    }
+
+    private static List<?> list(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        if (!(value instanceof List<?> list)) throw new IllegalArgumentException("'" + key + "' must be an array");
+        return list;
+    }
+
+    private static int[] intArray(Map<String, Object> body, String key) {
+        return toIntArray(body.get(key), key);
+    }
+
+    private static int[] toIntArray(Object value, String name) {
+        if (!(value instanceof List<?> list)) throw new IllegalArgumentException("'" + name + "' must be an array of integers");
+        int[] res = new int[list.size()];
+        for (int i = 0; i < res.length; i++) {
+            if (!(list.get(i) instanceof Long number)) throw new IllegalArgumentException("'" + name + "' must be an array of integers");
+            res[i] = toInt(number, name);
+        }
+        return res;
+    }
+
+    private static int[] requirePositive(int[] nums) {
+        if (nums.length == 0) throw new IllegalArgumentException("Array must not be empty");
+        for (int num : nums) if (num <= 0) throw new IllegalArgumentException("Values must be positive");
+        return nums;
+    }
+
+    private static void requireSorted(int[] nums) {
+        if (nums.length == 0) throw new IllegalArgumentException("nums must not be empty");
+        for (int i = 1; i < nums.length; i++) {
+            if (nums[i - 1] >= nums[i]) throw new IllegalArgumentException("nums must be strictly increasing");
+        }
+    }
+
+    private static char[][] sudokuBoard(Map<String, Object> body) {
+        List<?> rows = list(body, "board");
+        if (rows.size() != 9) throw new IllegalArgumentException("board must have 9 rows");
+        char[][] board = new char[9][];
+        for (int i = 0; i < 9; i++) {
+            if (!(rows.get(i) instanceof String row) || row.length() != 9 || !row.matches("[1-9.]{9}")) {
+                throw new IllegalArgumentException("Every row must be 9 characters of 1-9 or '.'");
+            }
+            board[i] = row.toCharArray();
+        }
+        return board;
+    }
+}
@@ -1,10 +1,17 @@
 package DSA;
 
 
+import DSA.PrimitiveCollections.IntRows;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
 import java.util.stream.Collectors;
 
 
@@ -38,15 +45,28 @@ public class VerticalOrderTraversalOfABinaryTree {
             if (i != res.size() - 1) System.out.print(", ");
         }
         System.out.println("]");
+
+        System.out.println("Iterative: " + verticalTraversalIterative(root));
+        System.out.println("Parallel: " + verticalTraversalParallel(root));
+        System.out.println("Primitive: " + verticalTraversalInts(root));
+
+        // degenerate tree, 1M levels deep, the recursive version overflows the stack here
+        TreeNode deep = new TreeNode(0);
+        TreeNode current = deep;
+        for (int i = 1; i < 1_000_000; i++) {
+            current.left = new TreeNode(i);
+            current = current.left;
+        }
+        System.out.println("Columns in a 1M deep tree: " + verticalTraversalIterative(deep).size());
     }
 
-    static class TreeNode {
-        int val;
-        TreeNode left;
-        TreeNode right;
-        TreeNode() {}
-        TreeNode(int val) { this.val = val; }
-        TreeNode(int val, TreeNode left, TreeNode right) {
+    public static class TreeNode {
+        public int val;
+        public TreeNode left;
+        public TreeNode right;
+        public TreeNode() {}
+        public TreeNode(int val) { this.val = val; }
+        public TreeNode(int val, TreeNode left, TreeNode right) {
             this.val = val;
             this.left = left;
             this.right = right;
@@ -96,4 +116,287 @@ public class VerticalOrderTraversalOfABinaryTree {
         traverse(node.left, row+1,col-1);
         traverse(node.right, row+1,col+1);
     }
+
+    /*
+    ITERATIVE VERSION
+
+    Problems with the recursive one above:
+        •	recursion depth = tree height, so a degenerate (linked list like) tree overflows the stack
+        •	a Location object per node plus a TreeMap entry per column
+        •	res / locations are instance fields, so the object cannot be reused or shared between threads
+
+    Here:
+        1.	BFS where the queue itself is an array of nodes, and for every queued node we keep its row and column
+            in parallel int arrays, so after the traversal we have all (col, row, val) triples without any extra objects.
+            BFS order also means row = level, and we track min/max column on the way.
+        2.	Columns are a dense range [minCol, maxCol], so instead of a TreeMap we bucket with counting sort:
+            count per column -> prefix offsets -> place every node in its column's slice.
+        3.	Inside a column the order is by row and then by value (same as Location.compareTo), so every node is packed
+            into one long = row in the high 32 bits, value (sign flipped so it sorts as unsigned) in the low 32 bits,
+            and the slice is sorted with Arrays.sort on primitives.
+
+    Everything is local to the call, so it is safe to call concurrently.
+     */
+    public static List<List<Integer>> verticalTraversalIterative(TreeNode root) {
+        if (root == null) return new ArrayList<>();
+        return breadthFirst(root, VerticalOrderTraversalOfABinaryTree::groupByColumn);
+    }
+
+    /*
+    Same columns in the same order as an IntRows: the sorted (row, value) keys are unpacked into one int[]
+    and the column offsets of the counting sort become the row offsets, so the result is two arrays
+    instead of a List<Integer> per column and an Integer per node.
+     */
+    public static IntRows verticalTraversalInts(TreeNode root) {
+        if (root == null) return new IntRows(0, 0);
+        return breadthFirst(root, VerticalOrderTraversalOfABinaryTree::groupByColumnInts);
+    }
+
+    // what to build from the (col, row, val) triples of the traversal
+    interface Grouping<T> {
+        T group(int[] cols, int[] rows, int[] vals, int count, int minCol, int maxCol);
+    }
+
+    private static <T> T breadthFirst(TreeNode root, Grouping<T> grouping) {
+        TreeNode[] queue = new TreeNode[16];
+        int[] rows = new int[16];
+        int[] cols = new int[16];
+        queue[0] = root;
+        int head = 0, tail = 1;
+        int minCol = 0, maxCol = 0;
+
+        while (head < tail) {
+            TreeNode node = queue[head];
+            int row = rows[head], col = cols[head];
+            head++;
+            if (tail + 2 > queue.length) {
+                int capacity = queue.length * 2;
+                queue = Arrays.copyOf(queue, capacity);
+                rows = Arrays.copyOf(rows, capacity);
+                cols = Arrays.copyOf(cols, capacity);
+            }
+            if (node.left != null) {
+                queue[tail] = node.left;
+                rows[tail] = row + 1;
+                cols[tail] = col - 1;
+                minCol = Math.min(minCol, col - 1);
+                tail++;
+            }
+            if (node.right != null) {
+                queue[tail] = node.right;
+                rows[tail] = row + 1;
+                cols[tail] = col + 1;
+                maxCol = Math.max(maxCol, col + 1);
+                tail++;
+            }
+        }
+
+        int[] vals = new int[tail];
+        for (int i = 0; i < tail; i++) vals[i] = queue[i].val;
+        return grouping.group(cols, rows, vals, tail, minCol, maxCol);
+    }
+
+    static List<List<Integer>> groupByColumn(int[] cols, int[] rows, int[] vals, int count, int minCol, int maxCol) {
+        return groupByColumn(cols, rows, vals, count, minCol, maxCol, false);
+    }
+
+    // buckets the first "count" (col, row, val) triples by column and sorts every column by row, then value
+    static List<List<Integer>> groupByColumn(int[] cols, int[] rows, int[] vals, int count, int minCol, int maxCol, boolean parallel) {
+        int width = maxCol - minCol + 1;
+        int[] offsets = new int[width + 1];
+        long[] keys = bucketByColumn(cols, rows, vals, count, minCol, offsets);
+
+        if (parallel) {
+            // columns are independent slices of keys, so they are sorted and converted in parallel
+            // every worker sets its own index, set() on a pre-sized ArrayList does not change its structure
+            List<List<Integer>> columns = new ArrayList<>(Collections.nCopies(width, (List<Integer>) null));
+            IntStream.range(0, width).parallel().forEach(c -> {
+                Arrays.parallelSort(keys, offsets[c], offsets[c + 1]);
+                columns.set(c, toColumn(keys, offsets[c], offsets[c + 1]));
+            });
+            return columns;
+        }
+
+        List<List<Integer>> res = new ArrayList<>(width);
+        for (int c = 0; c < width; c++) {
+            Arrays.sort(keys, offsets[c], offsets[c + 1]);
+            res.add(toColumn(keys, offsets[c], offsets[c + 1]));
+        }
+        return res;
+    }
+
+    static IntRows groupByColumnInts(int[] cols, int[] rows, int[] vals, int count, int minCol, int maxCol) {
+        int width = maxCol - minCol + 1;
+        int[] offsets = new int[width + 1];
+        long[] keys = bucketByColumn(cols, rows, vals, count, minCol, offsets);
+        int[] values = new int[count];
+        for (int c = 0; c < width; c++) {
+            Arrays.sort(keys, offsets[c], offsets[c + 1]);
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) values[i] = unpackValue(keys[i]);
+        }
+        return IntRows.of(values, offsets);
+    }
+
+    // counting sort by column: offsets[c] .. offsets[c + 1] is the slice of column minCol + c in the returned keys
+    private static long[] bucketByColumn(int[] cols, int[] rows, int[] vals, int count, int minCol, int[] offsets) {
+        int width = offsets.length - 1;
+        for (int i = 0; i < count; i++) offsets[cols[i] - minCol + 1]++;
+        for (int c = 0; c < width; c++) offsets[c + 1] += offsets[c];
+
+        long[] keys = new long[count];
+        int[] next = Arrays.copyOf(offsets, width);
+        for (int i = 0; i < count; i++) {
+            keys[next[cols[i] - minCol]++] = packRowAndValue(rows[i], vals[i]);
+        }
+        return keys;
+    }
+
+    private static List<Integer> toColumn(long[] keys, int from, int to) {
+        List<Integer> column = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) column.add(unpackValue(keys[i]));
+        return column;
+    }
+
+    // rows are never negative, flipping the sign bit of the value makes negative values sort before positive ones
+    static long packRowAndValue(int row, int val) {
+        return ((long) row << 32) | ((val ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    static int unpackValue(long key) {
+        return (int) key ^ Integer.MIN_VALUE;
+    }
+
+    /*
+    PARALLEL VERSION
+
+        1.	Fork-join over subtrees: every task records its own node and forks the left and right subtree,
+            until SPLIT_DEPTH levels are forked (enough tasks to keep every worker busy), after that the subtree
+            is walked iteratively by the worker that picked it up.
+        2.	Every leaf task appends (col, row, val) into its own primitive TripleBuffer, so there is no locking or
+            sharing while collecting. A task returns its buffers (its node's, then its children's) when joined,
+            so no buffer outlives the call, unlike a ThreadLocal on the common pool workers.
+        3.	At the end the buffers are concatenated and grouped by column like in the iterative version,
+            with the per column sorts done in parallel.
+
+    Inside a column the packed (row, value) sort gives the same row-then-value order as Location.compareTo,
+    so the output is identical to the sequential version, no matter which worker collected which node.
+     */
+    public static List<List<Integer>> verticalTraversalParallel(TreeNode root) {
+        if (root == null) return new ArrayList<>();
+
+        int splitDepth = 32 - Integer.numberOfLeadingZeros(ForkJoinPool.getCommonPoolParallelism()) + 3;
+        List<TripleBuffer> buffers = ForkJoinPool.commonPool().invoke(new CollectTask(root, 0, 0, 0, splitDepth));
+
+        int count = 0, minCol = 0, maxCol = 0;
+        for (TripleBuffer buffer : buffers) {
+            count += buffer.size;
+            minCol = Math.min(minCol, buffer.minCol);
+            maxCol = Math.max(maxCol, buffer.maxCol);
+        }
+        int[] cols = new int[count], rows = new int[count], vals = new int[count];
+        int offset = 0;
+        for (TripleBuffer buffer : buffers) {
+            System.arraycopy(buffer.cols, 0, cols, offset, buffer.size);
+            System.arraycopy(buffer.rows, 0, rows, offset, buffer.size);
+            System.arraycopy(buffer.vals, 0, vals, offset, buffer.size);
+            offset += buffer.size;
+        }
+        return groupByColumn(cols, rows, vals, count, minCol, maxCol, true);
+    }
+
+    static class TripleBuffer {
+        int[] cols, rows, vals;
+        int size;
+        int minCol, maxCol;
+
+        TripleBuffer(int capacity) {
+            cols = new int[capacity];
+            rows = new int[capacity];
+            vals = new int[capacity];
+        }
+
+        void add(int col, int row, int val) {
+            if (size == cols.length) {
+                cols = Arrays.copyOf(cols, size * 2);
+                rows = Arrays.copyOf(rows, size * 2);
+                vals = Arrays.copyOf(vals, size * 2);
+            }
+            cols[size] = col;
+            rows[size] = row;
+            vals[size] = val;
+            size++;
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+    }
+
+    static class CollectTask extends RecursiveTask<List<TripleBuffer>> {
+        private static final long serialVersionUID = 1L;
+
+        // tasks are never serialized, ForkJoinTask is Serializable only for exceptions crossing JVMs
+        private final transient TreeNode node;
+        private final int row, col, depth, splitDepth;
+
+        CollectTask(TreeNode node, int row, int col, int depth, int splitDepth) {
+            this.node = node;
+            this.row = row;
+            this.col = col;
+            this.depth = depth;
+            this.splitDepth = splitDepth;
+        }
+
+        @Override
+        protected List<TripleBuffer> compute() {
+            List<TripleBuffer> buffers = new ArrayList<>();
+            if (depth >= splitDepth) {
+                TripleBuffer buffer = new TripleBuffer(1024);
+                collect(node, row, col, buffer);
+                buffers.add(buffer);
+                return buffers;
+            }
+            TripleBuffer own = new TripleBuffer(1);
+            own.add(col, row, node.val);
+            buffers.add(own);
+            List<CollectTask> children = new ArrayList<>(2);
+            if (node.left != null) children.add(new CollectTask(node.left, row + 1, col - 1, depth + 1, splitDepth));
+            if (node.right != null) children.add(new CollectTask(node.right, row + 1, col + 1, depth + 1, splitDepth));
+            invokeAll(children);
+            for (CollectTask child : children) buffers.addAll(child.join());
+            return buffers;
+        }
+
+        // iterative DFS with an explicit stack, so deep subtrees do not overflow the worker's stack
+        private static void collect(TreeNode root, int rootRow, int rootCol, TripleBuffer buffer) {
+            TreeNode[] stack = new TreeNode[64];
+            int[] rows = new int[64], cols = new int[64];
+            int top = 0;
+            stack[top] = root;
+            rows[top] = rootRow;
+            cols[top] = rootCol;
+            top++;
+            while (top > 0) {
+                top--;
+                TreeNode node = stack[top];
+                int row = rows[top], col = cols[top];
+                buffer.add(col, row, node.val);
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                    rows = Arrays.copyOf(rows, rows.length * 2);
+                    cols = Arrays.copyOf(cols, cols.length * 2);
+                }
+                if (node.right != null) {
+                    stack[top] = node.right;
+                    rows[top] = row + 1;
+                    cols[top] = col + 1;
+                    top++;
+                }
+                if (node.left != null) {
+                    stack[top] = node.left;
+                    rows[top] = row + 1;
+                    cols[top] = col - 1;
+                    top++;
+                }
+            }
+        }
+    }
 }
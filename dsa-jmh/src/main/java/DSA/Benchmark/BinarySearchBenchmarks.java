@@ -0,0 +1,96 @@
+package DSA.Benchmark;
+
+import DSA.BinarySearch.BananaPiles;
+import DSA.BinarySearch.EatingBananasHourly;
+import DSA.BinarySearch.LowerBound;
+import DSA.BinarySearch.MinInRotatedSortedArray;
+import DSA.BinarySearch.RotatedSortedArray;
+import DSA.BinarySearch.SmallestDivisorLessThanEqualThreshold;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JMH version of BenchmarkSuite.binarySearch(). The point lookups cycle through 1024 random queries,
+ * so the branch predictor can not learn a single answer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinarySearchBenchmarks {
+
+    @Param({"1000", "1000000"})
+    int n;
+
+    private final LowerBound lowerBound = new LowerBound();
+    private final MinInRotatedSortedArray min = new MinInRotatedSortedArray();
+    private final SmallestDivisorLessThanEqualThreshold divisor = new SmallestDivisorLessThanEqualThreshold();
+    private final EatingBananasHourly bananas = new EatingBananasHourly();
+    private int[] sorted, rotated, queries, piles, thresholds;
+    private RotatedSortedArray rotatedArray;
+    private BananaPiles dynamicPiles;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        sorted = BenchmarkSuite.distinctSorted(n, random);
+        queries = random.ints(1024, sorted[0] + 1, sorted[n - 1]).toArray();
+        rotated = BenchmarkSuite.rotate(sorted, n / 3);
+        rotatedArray = new RotatedSortedArray(rotated);
+        piles = random.ints(n, 1, 1_000_000).toArray();
+        thresholds = random.ints(1000, n, n * 50).toArray();
+        dynamicPiles = new BananaPiles(1_000_000);
+        for (int pile : piles) dynamicPiles.insert(pile);
+    }
+
+    @Benchmark
+    public int lowerBound() {
+        return lowerBound.lowerBound(sorted, queries[next++ & 1023]);
+    }
+
+    @Benchmark
+    public int rotatedIndexOf() {
+        return rotatedArray.indexOf(queries[next++ & 1023]);
+    }
+
+    @Benchmark
+    public int minInRotated() {
+        return min.findMin(rotated);
+    }
+
+    @Benchmark
+    public int smallestDivisor() {
+        return divisor.smallestDivisor(piles, n * 3);
+    }
+
+    // 1000 thresholds in one call, including the preprocessing
+    @Benchmark
+    public int[] smallestDivisors() {
+        return divisor.smallestDivisors(piles, thresholds);
+    }
+
+    @Benchmark
+    public int minimumRateToEatBananas() {
+        return bananas.minimumRateToEatBananas(piles, n * 3);
+    }
+
+    @Benchmark
+    public int bananaPilesMinimumRate() {
+        return dynamicPiles.minimumRate(n * 3);
+    }
+}
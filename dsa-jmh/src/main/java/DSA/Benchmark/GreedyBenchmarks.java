@@ -0,0 +1,111 @@
+package DSA.Benchmark;
+
+import DSA.GreedyAlgorithms.AssignCookies;
+import DSA.GreedyAlgorithms.FractionalKnapsackProblem;
+import DSA.GreedyAlgorithms.JobSequencingProblem;
+import DSA.GreedyAlgorithms.ListPipeline;
+import DSA.GreedyAlgorithms.MinNumOfRailwayPlatforms;
+import DSA.GreedyAlgorithms.NMeetings1room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JMH version of BenchmarkSuite.greedy(). The solvers that sort their input in place get a clone,
+ * so every call sorts the same unsorted arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GreedyBenchmarks {
+
+    @Param({"1000", "100000"})
+    int n;
+
+    private final MinNumOfRailwayPlatforms platforms = new MinNumOfRailwayPlatforms();
+    private final NMeetings1room meetings = new NMeetings1room();
+    private int[] students, cookies, weights, values, arrival, departure, start, end;
+    private int[][] jobs;
+    private List<Integer> numbers;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(7);
+        students = random.ints(n, 1, 1000).toArray();
+        cookies = random.ints(n, 1, 1000).toArray();
+        weights = random.ints(n, 1, 100).toArray();
+        values = random.ints(n, 1, 1000).toArray();
+        jobs = new int[n][];
+        for (int i = 0; i < n; i++) jobs[i] = new int[]{i + 1, 1 + random.nextInt(Math.max(1, n / 10)), random.nextInt(1000)};
+        arrival = new int[n];
+        departure = new int[n];
+        for (int i = 0; i < n; i++) {
+            arrival[i] = random.nextInt(2300);
+            departure[i] = arrival[i] + random.nextInt(Math.min(60, 2359 - arrival[i]) + 1);
+        }
+        start = new int[n];
+        end = new int[n];
+        for (int i = 0; i < n; i++) {
+            start[i] = random.nextInt(1_000_000);
+            end[i] = start[i] + 1 + random.nextInt(1000);
+        }
+        numbers = new ArrayList<>();
+        for (int i = 0; i < n; i++) numbers.add(random.nextInt());
+    }
+
+    @Benchmark
+    public int assignCookies() {
+        return AssignCookies.maxNumOfStudentWithCookies(students.clone(), cookies.clone());
+    }
+
+    @Benchmark
+    public double fractionalKnapsack() {
+        return FractionalKnapsackProblem.fractionalKnapsack(weights, values, n * 10);
+    }
+
+    @Benchmark
+    public int jobScheduling() {
+        return JobSequencingProblem.jobScheduling(jobs);
+    }
+
+    @Benchmark
+    public int railwayPlatforms() {
+        return platforms.findPlatform(arrival, departure);
+    }
+
+    @Benchmark
+    public int railwayPlatformsBySorting() {
+        return platforms.findPlatformBySorting(arrival, departure);
+    }
+
+    @Benchmark
+    public int maxMeetings() {
+        return meetings.maxMeetings(start, end);
+    }
+
+    @Benchmark
+    public List<Integer> listPipeline() {
+        return ListPipeline.of(numbers).filter(x -> (x & 1) == 0).map(x -> x >> 1).toList();
+    }
+
+    @Benchmark
+    public List<Integer> stream() {
+        return numbers.stream().filter(x -> (x & 1) == 0).map(x -> x >> 1).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package DSA.Benchmark;
+
+import DSA.PrimitiveCollections.IntRows;
+import DSA.Recursion.CombinationSumRepeatAllowed;
+import DSA.Recursion.NQueen;
+import DSA.Recursion.PalindromePartioning;
+import DSA.Recursion.PowerSet;
+import DSA.Recursion.RatMaze;
+import DSA.Recursion.SudokuSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JMH version of BenchmarkSuite.recursion(), on the same inputs:
+ *
+ *   java -jar dsa-jmh/target/benchmarks.jar RecursionBenchmarks
+ *
+ * JmhRunner adds the GC profiler, its gc.alloc.rate.norm is the B/op column of Bench.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecursionBenchmarks {
+
+    @Param({"6", "8", "10"})
+    int n;
+
+    private final NQueen nQueen = new NQueen();
+    private final SudokuSolver sudoku = new SudokuSolver();
+    private final RatMaze ratMaze = new RatMaze();
+    private final int[] primes = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29};
+    private char[][] board;
+    private int[] subsetNums;
+    private String repeated;
+    private int[][] openGrid;
+
+    @Setup
+    public void setup() {
+        board = BenchmarkSuite.classicSudoku();
+        // n = 6, 8, 10 -> 2^12 .. 2^20 subsets, partitions of a^12 .. a^20, open 3x3 .. 5x5 mazes
+        subsetNums = new Random(16).ints(n + 6, 0, 1000).toArray();
+        repeated = "a".repeat(2 * n);
+        openGrid = new int[n / 2][n / 2];
+        for (int[] row : openGrid) Arrays.fill(row, 1);
+    }
+
+    @Benchmark
+    public List<List<String>> nQueenSolve() {
+        return nQueen.solveNQueens(n);
+    }
+
+    @Benchmark
+    public long nQueenForEachSolution() {
+        return NQueen.forEachSolution(n, columns -> { });
+    }
+
+    @Benchmark
+    public boolean sudokuSolve() {
+        char[][] copy = new char[9][];
+        for (int i = 0; i < 9; i++) copy[i] = board[i].clone();
+        return sudoku.solve(copy);
+    }
+
+    @Benchmark
+    public int sudokuCountSolutions() {
+        return SudokuSolver.countSolutions(board, 2);
+    }
+
+    @Benchmark
+    public List<List<Integer>> powerSet() {
+        return PowerSet.powerSet(subsetNums);
+    }
+
+    @Benchmark
+    public IntRows powerSetInts() {
+        return PowerSet.powerSetInts(subsetNums);
+    }
+
+    @Benchmark
+    public List<List<Integer>> combinationSum() {
+        return CombinationSumRepeatAllowed.combinationSum(primes, 10 * n);
+    }
+
+    @Benchmark
+    public IntRows combinationSumInts() {
+        return CombinationSumRepeatAllowed.combinationSumInts(primes, 10 * n);
+    }
+
+    @Benchmark
+    public List<List<String>> palindromePartition() {
+        return PalindromePartioning.partition(repeated);
+    }
+
+    @Benchmark
+    public long palindromeCountPartitions() {
+        return PalindromePartioning.countPartitions(repeated);
+    }
+
+    @Benchmark
+    public List<String> ratMazeFindPath() {
+        return ratMaze.findPath(openGrid);
+    }
+
+    @Benchmark
+    public long ratMazeCountPathsParallel() {
+        return ratMaze.countPathsParallel(openGrid);
+    }
+}
@@ -0,0 +1,74 @@
+package DSA.Benchmark;
+
+import DSA.ArrayBinaryTree;
+import DSA.PrimitiveCollections.IntRows;
+import DSA.VerticalOrderTraversalOfABinaryTree;
+import DSA.VerticalOrderTraversalOfABinaryTree.TreeNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// JMH version of BenchmarkSuite.trees(): the vertical traversals over TreeNodes and over an ArrayBinaryTree
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeBenchmarks {
+
+    @Param({"10000", "1000000"})
+    int n;
+
+    private TreeNode root;
+    private ArrayBinaryTree arrayTree;
+
+    @Setup
+    public void setup() {
+        root = ArrayBinaryTree.randomTree(n, new Random(n));
+        arrayTree = ArrayBinaryTree.fromTreeNode(root);
+    }
+
+    // a new object per call, the recursive version keeps its state in instance fields
+    @Benchmark
+    public List<List<Integer>> verticalTraversal() {
+        return new VerticalOrderTraversalOfABinaryTree().verticalTraversal(root);
+    }
+
+    @Benchmark
+    public List<List<Integer>> verticalTraversalIterative() {
+        return VerticalOrderTraversalOfABinaryTree.verticalTraversalIterative(root);
+    }
+
+    @Benchmark
+    public List<List<Integer>> verticalTraversalParallel() {
+        return VerticalOrderTraversalOfABinaryTree.verticalTraversalParallel(root);
+    }
+
+    @Benchmark
+    public IntRows verticalTraversalInts() {
+        return VerticalOrderTraversalOfABinaryTree.verticalTraversalInts(root);
+    }
+
+    @Benchmark
+    public List<List<Integer>> arrayTreeVerticalTraversal() {
+        return arrayTree.verticalTraversal();
+    }
+
+    @Benchmark
+    public int[] arrayTreePreorder() {
+        return arrayTree.preorder();
+    }
+}